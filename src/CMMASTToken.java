@@ -1,5 +1,17 @@
 public class CMMASTToken extends CMMASTNode {
+  private double number;
+  private int symbol = -1;
+  private String string;
   public CMMASTToken (String n, String v) { super(n,v,false); }
+  public CMMASTToken (String n, String v, double num) { super(n,v,false); number=num; }
+  public CMMASTToken (String n, String v, int sym) { super(n,v,false); symbol=sym; }
+  public CMMASTToken (String n, String v, String str) { super(n,v,false); string=str; }
+  /** The value of a number literal, parsed once by the tokenizer */
+  public double getNumber() { return number; }
+  /** The value of a string literal, unquoted and unescaped by the tokenizer */
+  public String getString() { return string; }
+  /** The symbol of an identifier, from the tokenizer's CMMSymbolTable; -1 for other tokens */
+  public int getSymbol() { return symbol; }
   public <X,Y> X accept(CMMVisitor<X,Y> visitor, Y data) { return visitor.visit(this, data); }
 
 }
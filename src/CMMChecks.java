@@ -0,0 +1,107 @@
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Checks for behaviour that has broken before, each run from main and
+ * failing with an IllegalStateException that says what went wrong.
+ *
+ * Usage: java CMMChecks
+ */
+public class CMMChecks {
+
+  public static void main(String[] args) throws Exception {
+    pushAfterHistoryRaised();
+    commentsLongerThanWindow();
+    parseAgain();
+    deepNesting();
+    System.out.println("all checks passed");
+  } // end main
+
+  /**
+   * Raising the history size cannot bring back tokens the ring has already
+   * overwritten: pushing back past them is an error, not a stale token.
+   */
+  private static void pushAfterHistoryRaised() throws Exception {
+    StringBuilder source = new StringBuilder();
+    for (int i = 0; i < 100; i++) source.append('x').append(i).append(' ');
+    CMMTokenizer t = new CMMTokenizer(new StringReader(source.toString()));
+    for (int i = 0; i < 50; i++) t.nextToken();
+    t.setTokenHistorySize(100);
+
+    // the default size kept x30 to x49
+    for (int i = 0; i < 20; i++) t.pushToken();
+    check(t.nextToken().getValue().equals("x30"), "after 20 pushes the next token is x30");
+    t.pushToken();
+    try {
+      t.pushToken();
+      throw new IllegalStateException("pushed back past x30, which was overwritten");
+    } catch (CMMTokenizerException e) {
+      // expected
+    }
+    check(t.nextToken().getValue().equals("x30"), "a failed push leaves the position alone");
+  } // end pushAfterHistoryRaised
+
+  /**
+   * A channel tokenizer whose window is far smaller than the comments it
+   * slides past lexes exactly as it would from a byte[], line breaks and
+   * columns included.
+   */
+  private static void commentsLongerThanWindow() throws Exception {
+    StringBuilder source = new StringBuilder("a = 1; //");
+    for (int i = 0; i < 5000; i++) source.append("comment ");
+    source.append("\r\nb = 2; // \u00e9\u00fc\n\n// ");
+    for (int i = 0; i < 5000; i++) source.append('c');
+    byte[] bytes = source.toString().getBytes(StandardCharsets.UTF_8);
+
+    CMMTokenizer expected = new CMMTokenizer(bytes);
+    CMMTokenizer actual = new CMMTokenizer(Channels.newChannel(new ByteArrayInputStream(bytes)), 16);
+    CMMToken e, a;
+    do {
+      e = expected.nextToken();
+      a = actual.nextToken();
+      check(e.type == a.type && e.line == a.line && e.column == a.column && String.valueOf(e.getValue()).equals(String.valueOf(a.getValue())),
+          "channel token " + a + " at " + a.line + ":" + a.column + " matches " + e + " at " + e.line + ":" + e.column);
+    } while (e.type != CMMTokenizer.EOF_TOKEN);
+  } // end commentsLongerThanWindow
+
+  /**
+   * Each parse() builds its own tree, and a parse that failed part way
+   * through an expression leaves nothing behind for the next one.
+   */
+  private static void parseAgain() throws Exception {
+    CMMParser p = new CMMParser(new CMMTokenizer(new StringReader("number f() { x = 1; }")));
+    CMMASTProgramNode first = p.parse(), second = p.parse();
+    check(first != second && first.numChildren() == 1 && second.numChildren() == 0, "a second parse makes a new, empty tree");
+
+    // the failed parse stops at "}", which the next parse starts after
+    p = new CMMParser(new CMMTokenizer(new StringReader("number f() { x = (1 + } number g() { y = 2; }")));
+    try {
+      p.parse();
+      throw new IllegalStateException("parsed an incomplete expression");
+    } catch (CMMParserException e) {
+      // expected
+    }
+    CMMASTProgramNode after = p.parse();
+    check(after.numChildren() == 1 && after.getChild(0).getChild(1).getValue().equals("g"), "a parse after a failed one holds only what it parsed");
+  } // end parseAgain
+
+  /** Nesting far deeper than Java's stack could recurse still parses. */
+  private static void deepNesting() throws Exception {
+    String[] expressions = {
+      "(".repeat(5000) + "a" + ")".repeat(5000),
+      "!".repeat(20000) + "a",
+      "f(".repeat(5000) + "a" + ")".repeat(5000),
+    };
+    for (String e : expressions) {
+      CMMASTProgramNode tree = new CMMParser(new CMMTokenizer(new StringReader("number g() { x = " + e + "; }"))).parse();
+      check(tree.numChildren() == 1, "a deeply nested " + e.charAt(0) + " parses");
+    }
+  } // end deepNesting
+
+  private static void check(boolean ok, String what) {
+    if (!ok) throw new IllegalStateException("check failed: " + what);
+  }
+
+} // end CMMChecks
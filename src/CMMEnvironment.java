@@ -1,78 +1,135 @@
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.ListIterator;
-import java.util.Map;
+import java.util.Arrays;
 
 
+/**
+ * Variable bindings, indexed by the symbol ids of a CMMSymbolTable.
+ *
+ * Each symbol's innermost binding is kept in an array slot, so lookups never
+ * search the frames.  Binding a symbol that an outer frame already binds
+ * saves the outer binding on a stack, and popping the frame puts it back.
+ */
 public class CMMEnvironment {
-	List<Map<String,CMMData>> env;
-	
+	private CMMSymbolTable symbols;
+
+	// value[s] is symbol s's innermost binding; depth[s] is the frame that
+	// made it, or -1 if s is unbound
+	private CMMData[] value = new CMMData[64];
+	private int[] depth = new int[64];
+
+	// bindings shadowed by inner frames: symbol, value and depth, newest last
+	private int[] savedSymbol = new int[64], savedDepth = new int[64];
+	private CMMData[] savedValue = new CMMData[64];
+	private int saved = 0;
+
+	// where each frame's saved bindings start on that stack
+	private int[] frameStart = new int[16];
+	private int frame = 0;
+
 	/**
-	 * Create a new environment with one (empty) frame
+	 * Create a new environment with one (empty) frame, and its own symbol table
 	 */
 	public CMMEnvironment() {
-		env = new ArrayList<Map<String,CMMData>>();
-		env.add(new HashMap<String,CMMData>());
+		this(new CMMSymbolTable());
+	}
+
+	/**
+	 * Create a new environment with one (empty) frame, for the symbols
+	 * of one compilation
+	 */
+	public CMMEnvironment(CMMSymbolTable symbols) {
+		this.symbols = symbols;
+		Arrays.fill(depth, -1);
 	}
-	
+
 	/**
 	 * Push a new scope frame on to the environment
 	 */
 	public void pushFrame() {
-		env.add(new HashMap<String,CMMData>());		
+		if (++frame == frameStart.length) frameStart = Arrays.copyOf(frameStart, frame * 2);
+		frameStart[frame] = saved;
 	}
-	
+
 	/**
 	 * Pop the topmost scope frame from the environment
 	 */
 	public void popFrame() {
-		env.remove(env.size()-1);		
+		int start = frameStart[frame--];
+		while (saved > start) {
+			saved--;
+			int s = savedSymbol[saved];
+			value[s] = savedValue[saved];
+			depth[s] = savedDepth[saved];
+			savedValue[saved] = null;
+		}
 	}
-	
+
 	/**
 	 * Lookup an identifier in the environment
-	 * @param id the identifier to lookup
-	 * @return the value bound to id, or null if no value
-	 * is bound to id
+	 * @param symbol the symbol of the identifier to lookup
+	 * @return the value bound to symbol, or null if no value
+	 * is bound to symbol
 	 */
+	public CMMData lookup(int symbol) {
+		return symbol < value.length ? value[symbol] : null;
+	}
+
 	public CMMData lookup(String id) {
-		ListIterator<Map<String,CMMData>> i = env.listIterator(env.size());
-		while (i.hasPrevious()) {
-			Map<String,CMMData> frame = i.previous();
-			if (frame.containsKey(id)) {
-				return frame.get(id);
-			}
-		}
-		return null;
+		return lookup(symbols.intern(id));
 	}
-	
+
 	/**
 	 * Assign a value to a variable
-	 * @param id the identifier to lookup
-	 * @return the value that gets assigned to id, or null if id
+	 * @param symbol the symbol of the identifier to lookup
+	 * @return the value that gets assigned to symbol, or null if symbol
 	 * was not found
 	 */
+	public CMMData assign(int symbol, CMMData value) {
+		if (symbol >= depth.length || depth[symbol] == -1) return null;
+		this.value[symbol] = value;
+		return value;
+	}
+
 	public CMMData assign(String id, CMMData value) {
-		ListIterator<Map<String,CMMData>> i = env.listIterator(env.size());
-		while (i.hasPrevious()) {
-			Map<String,CMMData> frame = i.previous();
-			if (frame.containsKey(id)) {
-				frame.put(id, value);
-				return value;
-			}
-		}
-		return null;
+		return assign(symbols.intern(id), value);
 	}
 
-	
+
 	/**
-	 * Add an id/value pair to the topmost stack frame
-	 * @param id
+	 * Add a symbol/value pair to the topmost stack frame
+	 * @param symbol
 	 * @param value
 	 */
+	public void bind(int symbol, CMMData value) {
+		if (symbol >= depth.length) grow(symbol + 1);
+		if (depth[symbol] != frame) {
+			// the outermost frame is never popped, so needs nothing restored
+			if (frame > 0) save(symbol);
+			depth[symbol] = frame;
+		}
+		this.value[symbol] = value;
+	}
+
 	public void bind(String id, CMMData value) {
-		Map<String,CMMData> frame = env.get(env.size()-1);
-		frame.put(id, value);		
+		bind(symbols.intern(id), value);
+	}
+
+	private void save(int symbol) {
+		if (saved == savedSymbol.length) {
+			savedSymbol = Arrays.copyOf(savedSymbol, saved * 2);
+			savedDepth = Arrays.copyOf(savedDepth, saved * 2);
+			savedValue = Arrays.copyOf(savedValue, saved * 2);
+		}
+		savedSymbol[saved] = symbol;
+		savedDepth[saved] = depth[symbol];
+		savedValue[saved] = value[symbol];
+		saved++;
+	}
+
+	private void grow(int size) {
+		int n = Math.max(size, depth.length * 2);
+		int old = depth.length;
+		value = Arrays.copyOf(value, n);
+		depth = Arrays.copyOf(depth, n);
+		Arrays.fill(depth, old, n, -1);
 	}
 }
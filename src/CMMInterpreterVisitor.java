@@ -1,7 +1,6 @@
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.file.Paths;
 
 
 
@@ -11,9 +10,24 @@ public class CMMInterpreterVisitor implements
 	 * Environment keeps track of variable bindings
 	 */
 	protected CMMEnvironment env;
+
+	// symbols the interpreter itself looks up; the 11/22 names cannot clash
+	// with identifiers, which start with a letter
+	protected final int mainSymbol, printSymbol, printlnSymbol, cosSymbol;
+	protected final int thisSymbol, returnedSymbol, retvalSymbol;
 	
-	public CMMInterpreterVisitor() {
-		env = new CMMEnvironment();
+	/**
+	 * @param symbols the table the program's identifiers were interned in
+	 */
+	public CMMInterpreterVisitor(CMMSymbolTable symbols) {
+		env = new CMMEnvironment(symbols);
+		mainSymbol = symbols.intern("main");
+		printSymbol = symbols.intern("print");
+		printlnSymbol = symbols.intern("println");
+		cosSymbol = symbols.intern("cos");
+		thisSymbol = symbols.intern("11this");
+		returnedSymbol = symbols.intern("22returned");
+		retvalSymbol = symbols.intern("22retval");
 	}
 
 	public CMMData visit(CMMASTNode node, CMMEnvironment data) {
@@ -26,9 +40,9 @@ public class CMMInterpreterVisitor implements
 
 	// FunctionDefinition -> Type id ParameterList Block
 	public CMMData visit(CMMASTFunctionDefinitionNode node, CMMEnvironment data) {
-		String id = node.getChild(1).getValue();
+		int id = ((CMMASTToken)node.getChild(1)).getSymbol();
 		env.bind(id, new CMMFunction(node));
-		if (id.equals("main")) {
+		if (id == mainSymbol) {
 			return node.getChild(3).accept(this, data);
 		}
 		return null;
@@ -70,9 +84,9 @@ public class CMMInterpreterVisitor implements
 			n = n.getChild(0);   // Token
 			if (!n.getName().equals("id"))
 				throw new RuntimeException("Assigning to non-lvalue");
-			String id = n.getValue();
+			int id = ((CMMASTToken)n).getSymbol();
 			if (env.lookup(id) == null)
-				throw new RuntimeException("Assigning to undeclared variable " + id);
+				throw new RuntimeException("Assigning to undeclared variable " + n.getValue());
 			CMMData res = node.getChild(2).accept(this, data);
 			if (res.getClass() != env.lookup(id).getClass()) 
 				throw new RuntimeException("Type mismatch on assignment " 
@@ -216,35 +230,36 @@ public class CMMInterpreterVisitor implements
 		if (node.numChildren() == 1) { // just an identifier
 			return node.getChild(0).accept(this, data); 
 		} else { // a function call
+			int f = ((CMMASTToken)node.getChild(0)).getSymbol();
 			String fname = node.getChild(0).getValue();
-			if (fname.equals("print")) {
+			if (f == printSymbol) {
 				CMMData res = visitChildren(node.getChild(1), data);
 				System.out.print(res);
 				return res;
 			}
-			if (fname.equals("println")) {
+			if (f == printlnSymbol) {
 				CMMData res = visitChildren(node.getChild(1), data);
 				System.out.println(res);
 				return res;
 			}
 			
-			if (fname.equals("cos")){
+			if (f == cosSymbol){
 				throw new RuntimeException("Attempt to call the cosine function! "+ fname);
 				//System.out.println("10");
 				//return new CMMNumber(10);
 			}
-			CMMData f = env.lookup(fname);
-			if (!(f instanceof CMMFunction)) {
+			CMMData fd = env.lookup(f);
+			if (!(fd instanceof CMMFunction)) {
 				throw new RuntimeException("Attempt to call non-function "+ fname);
 			}
-			CMMFunction fn = (CMMFunction)f;
+			CMMFunction fn = (CMMFunction)fd;
 			env.pushFrame(); // add a frame for the parameters
-			env.bind("11this", fn);
-			env.bind("22returned", new CMMBoolean(false));
-			env.bind("22retval", null);
+			env.bind(thisSymbol, fn);
+			env.bind(returnedSymbol, new CMMBoolean(false));
+			env.bind(retvalSymbol, null);
 			node.getChild(1).accept(this, data);
 			fn.value().getChild(3).accept(this, data);  // visit the block now
-			CMMData res = env.lookup("22retval");
+			CMMData res = env.lookup(retvalSymbol);
 			if (res == null)
 				throw new RuntimeException("Function not returning a value " + fname);
 			// TODO: typecheck return value
@@ -255,14 +270,14 @@ public class CMMInterpreterVisitor implements
 
 	// ArgumentList -> lparen (Assignment (listsep Assignment)*)? rparen
 	public CMMData visit(CMMASTArgumentListNode node, CMMEnvironment data) {
-		CMMFunction fn = (CMMFunction)env.lookup("11this");
+		CMMFunction fn = (CMMFunction)env.lookup(thisSymbol);
 		CMMASTParameterListNode pl = (CMMASTParameterListNode)fn.value().getChild(2);
 		if (pl.numChildren() != node.numChildren()) {
 			throw new RuntimeException("Calling function with wrong number of arguments");
 		}
 		for (int i = 1; i < node.numChildren()-1; i += 2) {
 			CMMData value = node.getChild(i).accept(this, data);
-			String id = pl.getChild(i).getChild(1).getValue();
+			int id = ((CMMASTToken)pl.getChild(i).getChild(1)).getSymbol();
 			env.bind(id, value);
 		}
 		return null;
@@ -317,13 +332,13 @@ public class CMMInterpreterVisitor implements
 		String stype = type.getChild(0).getName();
 		if (stype.equals("number_t")) {
 			for (int i = 1; i < node.numChildren(); i += 2)
-				env.bind(node.getChild(i).getValue(), new CMMNumber(0));
+				env.bind(((CMMASTToken)node.getChild(i)).getSymbol(), new CMMNumber(0));
 		} else if (stype.equals("string_t")) {
 			for (int i = 1; i < node.numChildren(); i += 2)
-				env.bind(node.getChild(i).getValue(), new CMMString(""));			
+				env.bind(((CMMASTToken)node.getChild(i)).getSymbol(), new CMMString(""));			
 		} else if (stype.equals("boolean_t")) {
 			for (int i = 1; i < node.numChildren(); i += 2)
-				env.bind(node.getChild(i).getValue(), new CMMBoolean(false));						
+				env.bind(((CMMASTToken)node.getChild(i)).getSymbol(), new CMMBoolean(false));						
 		}
 		return null;
 	}
@@ -338,16 +353,16 @@ public class CMMInterpreterVisitor implements
 
 	public CMMData visit(CMMASTToken node, CMMEnvironment data) {
 		if (node.getName().equals("number")) {
-			return new CMMNumber(Double.parseDouble(node.getValue()));
+			return new CMMNumber(node.getNumber());
 		} else if (node.getName().equals("string")) {
-			return new CMMString(node.getValue());
+			return new CMMString(node.getString());
 		} else if (node.getName().equals("boolean")) {
 			return new CMMBoolean(Boolean.parseBoolean(node.getValue()));			
 		} else if (node.getName().equals("id")) {
-			String id = node.getValue();
-			if (env.lookup(id) == null)
-				throw new RuntimeException("Reference to undefined variable " + id);
-			return env.lookup(id);
+			CMMData value = env.lookup(node.getSymbol());
+			if (value == null)
+				throw new RuntimeException("Reference to undefined variable " + node.getValue());
+			return value;
 		}
 		return null;
 	}
@@ -355,15 +370,15 @@ public class CMMInterpreterVisitor implements
 	//@Override
 	public CMMData visit(CMMASTReturnStatementNode node, CMMEnvironment data) {
 		CMMData r = node.getChild(1).accept(this, data);
-		env.assign("22retval", r);
-		env.assign("22returned", new CMMBoolean(true));
+		env.assign(retvalSymbol, r);
+		env.assign(returnedSymbol, new CMMBoolean(true));
 		return null;
 	}
 
 	protected CMMData visitChildren(CMMASTNode node, CMMEnvironment data) {
 		CMMData last = null;
 		for (int i = 0; i < node.numChildren(); i++) {
-			CMMBoolean returned = (CMMBoolean)env.lookup("22returned");
+			CMMBoolean returned = (CMMBoolean)env.lookup(returnedSymbol);
 			if (returned != null && returned.value()) return null;
 			CMMData tmp = node.getChild(i).accept(this, data);
 			if (tmp != null) last = tmp;
@@ -377,19 +392,18 @@ public class CMMInterpreterVisitor implements
 	}
 	
 	public static void main(String[] args) {
-		Reader r = null;
+		CMMTokenizer t = null;
 		if (args.length == 0) {
-			r = new InputStreamReader(System.in);
+			t = new CMMTokenizer(Channels.newChannel(System.in));
 		} else {
 			try {
-				r = new FileReader(args[0]);
+				t = new CMMTokenizer(Paths.get(args[0]));
 			} catch (IOException e) {
 				System.err.println("Error occurred while opening input file " + args[0]);
 				System.err.println(e);
 				System.exit(-1);
 			}
 		}
-		CMMTokenizer t = new CMMTokenizer(r);
 		CMMParser p = new CMMParser(t);
 		CMMASTNode n = null;
 		try {
@@ -403,7 +417,7 @@ public class CMMInterpreterVisitor implements
 		}
 		System.out.println("Program parsed successfully - attempting to run");
 		System.out.println("Program output:");
-		CMMInterpreterVisitor v = new CMMInterpreterVisitor();
+		CMMInterpreterVisitor v = new CMMInterpreterVisitor(t.getSymbolTable());
 		CMMData res = n.accept(v, null);
 		System.out.print("Program value: ");
 		System.out.println(res);
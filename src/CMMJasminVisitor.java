@@ -1,10 +1,9 @@
 
 import java.io.FileOutputStream;
-import java.io.FileReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.PrintStream;
-import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -1023,12 +1022,34 @@ public class CMMJasminVisitor implements CMMVisitor<Integer, List<String>> {
 		return null;
 	}
 
+	/**
+	 * A string constant as Jasmin reads it back: quoted, with the escapes
+	 * it knows for quotes, backslashes and control chars
+	 */
+	private static String quote(String value) {
+		StringBuilder q = new StringBuilder(value.length() + 2).append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+			case '"': q.append("\\\""); break;
+			case '\\': q.append("\\\\"); break;
+			case '\n': q.append("\\n"); break;
+			case '\r': q.append("\\r"); break;
+			case '\t': q.append("\\t"); break;
+			case '\b': q.append("\\b"); break;
+			case '\f': q.append("\\f"); break;
+			default: q.append(c);
+			}
+		}
+		return q.append('"').toString();
+	}
+
 	public Integer visit(CMMASTToken node, List<String> output) {
 		if (node.getName().equals("number")) {
-			output.add("  ldc " + Float.valueOf(node.getValue()));
+			output.add("  ldc " + (float)node.getNumber());
 			return NUMBER;
 		} else if (node.getName().equals("string")) {
-			output.add("  ldc " + node.getValue());
+			output.add("  ldc " + quote(node.getString()));
 			return STRING;
 		} else if (node.getName().equals("boolean")) {
 			output.add("  ldc " + (node.getValue().equals("true") ? "1" : "0"));
@@ -1045,15 +1066,15 @@ public class CMMJasminVisitor implements CMMVisitor<Integer, List<String>> {
 	 * @param args
 	 */
 	public static void main(String[] args) {
-		Reader r = null;
+		CMMTokenizer t = null;
 		String basename = "a";
 		if (args.length == 0) {
-			r = new InputStreamReader(System.in);
+			t = new CMMTokenizer(Channels.newChannel(System.in));
 			basename = "a";
 		} else {
 			basename = args[0].replaceAll("\\.cmm$", "");
 			try {
-				r = new FileReader(args[0]);
+				t = new CMMTokenizer(Paths.get(args[0]));
 			} catch (IOException e) {
 				System.err.println("Error occurred while opening input file " + args[0]);
 				System.err.println(e);
@@ -1061,7 +1082,6 @@ public class CMMJasminVisitor implements CMMVisitor<Integer, List<String>> {
 			}
 		}
 		String outfile = basename + ".j";     // TODO: handle path components better
-		CMMTokenizer t = new CMMTokenizer(r);
 		CMMParser p = new CMMParser(t);
 		CMMASTNode n = null;
 		System.out.print("Parsing...");
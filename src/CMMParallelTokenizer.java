@@ -0,0 +1,214 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Lexes a whole input on a ForkJoinPool.  The input is cut into chunks just
+ * after newlines, each chunk is lexed on its own, and the chunks are stitched
+ * into one CMMTokenStream that is the same as CMMTokenizer.tokenizeAll() gives.
+ *
+ * A cut only guesses at a token boundary: a newline inside a string literal
+ * is no place to start lexing.  A chunk's tokens are taken only once the chunk
+ * before it has been seen to end on a token boundary.  Where it did not, the
+ * input is lexed sequentially from the last token it can vouch for until the
+ * scan lands on a later cut, and lexing errors are found the same way.
+ */
+public class CMMParallelTokenizer {
+
+  // inputs shorter than this are not worth splitting
+  private static final int MIN_CHUNK = 1 << 16;
+
+  private char[] text;
+  private ByteBuffer bytes;
+  private int length;
+
+  public CMMParallelTokenizer (Reader reader) throws CMMTokenizerException {
+    CMMTokenizer t = new CMMTokenizer(reader);
+    t.readAll();
+    text = t.text();
+    length = t.textLength();
+  } // end constructor
+
+  /** Maps a UTF-8 file, as CMMTokenizer(Path) does. */
+  public CMMParallelTokenizer (Path path) throws IOException {
+    bytes = new CMMTokenizer(path).bytes();
+    length = bytes.limit();
+  } // end constructor
+
+  public CMMTokenStream tokenizeAll() throws CMMTokenizerException {
+    return tokenizeAll(ForkJoinPool.commonPool());
+  }
+
+  public CMMTokenStream tokenizeAll(ForkJoinPool pool) throws CMMTokenizerException {
+    int[] cuts = cuts(pool.getParallelism());
+    int n = cuts.length - 1;
+
+    ChunkTask[] chunks = new ChunkTask[n];
+    for (int k = 0; k < n; k++) chunks[k] = new ChunkTask(tokenizer(cuts[k], cuts[k + 1], 1, cuts[k]), cuts[k], cuts[k + 1]);
+    for (int k = 1; k < n; k++) pool.execute(chunks[k]);
+    chunks[0].invoke();
+
+    CMMTokenStream out = new CMMTokenStream();
+    if (bytes != null) out.setSource(bytes); else out.setSource(text);
+
+    // chunk k starts on a token boundary, on line lineOffset + 1
+    int k = 0, lineOffset = 0;
+    while (true) {
+      ChunkTask chunk = chunks[k];
+      chunk.join();
+      CMMTokenStream s = chunk.tokens;
+      int last = s.size() - 1; // the chunk's eof, unless it failed
+
+      if (!chunk.failed && (k == n - 1 || last == 0 || s.start(last - 1) + s.length(last - 1) < chunk.to)) {
+        // every token ended before the chunk did, so a sequential scan finds the same ones
+        if (k == n - 1) {
+          out.addAll(s, 0, s.size(), lineOffset);
+          return out;
+        }
+        out.addAll(s, 0, last, lineOffset);
+        lineOffset += s.line(last) - 1;
+        k++;
+        continue;
+      }
+
+      // The chunk's last token may run on past its end, or the chunk failed.
+      // Its tokens up to that one are sound; lex on from there sequentially.
+      int keep = chunk.failed ? s.size() - 1 : last - 1;
+      int prevEnd;
+      CMMTokenizer seq;
+      if (keep >= 0) {
+        out.addAll(s, 0, keep, lineOffset);
+        prevEnd = s.start(keep);
+        seq = tokenizer(prevEnd, length, s.line(keep) + lineOffset, prevEnd - s.column(keep) + 1);
+      } else {
+        prevEnd = chunk.from;
+        seq = tokenizer(prevEnd, length, lineOffset + 1, prevEnd);
+      }
+
+      int j = k + 1;
+      while (true) {
+        int before = out.size();
+        int kind = seq.scanInto(out);
+        if (kind == CMMTokenizer.EOF_TOKEN) return out;
+
+        int start = out.start(before);
+        while (j < n && cuts[j] < prevEnd) j++;
+        // Only skipped text lies between prevEnd and start, so a cut there is
+        // a token boundary: cuts follow a newline, which is a token on its own.
+        if (j < n && cuts[j] <= start && startsWith(chunks[j], start)) {
+          lineOffset = out.line(before) - chunks[j].tokens.line(0);
+          out.truncate(before);
+          k = j;
+          break;
+        }
+        prevEnd = start + out.length(before);
+      }
+    }
+  } // end tokenizeAll
+
+  private static boolean startsWith(ChunkTask chunk, int start) {
+    chunk.join();
+    return chunk.tokens.size() > 0 && chunk.tokens.start(0) == start;
+  }
+
+  /**
+   * Offsets where chunks start, ending with the input length.  Each cut but
+   * the first is just after a newline, so the chunk starts a line.
+   */
+  private int[] cuts(int parallelism) {
+    int chunks = Math.max(1, Math.min(length / MIN_CHUNK, parallelism * 4));
+    int[] cuts = new int[chunks + 1];
+    int n = 1;
+    for (int i = 1; i < chunks; i++) {
+      int p = Math.max((int) ((long) i * length / chunks), cuts[n - 1]);
+      while (p < length && charAt(p) != '\n') p++;
+      if (p + 1 >= length) break;
+      cuts[n++] = p + 1;
+    }
+    cuts[n++] = length;
+    return Arrays.copyOf(cuts, n);
+  } // end cuts
+
+  private int charAt(int p) { return bytes != null ? bytes.get(p) : text[p]; }
+
+  private CMMTokenizer tokenizer(int from, int to, int line, int lineStart) {
+    if (bytes != null) return new CMMTokenizer(bytes, from, to, line, lineStart);
+    return new CMMTokenizer(text, from, to, line, lineStart);
+  }
+
+  // lexes [from, to) as if it were the whole input, with lines counted from 1
+  private static class ChunkTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    final transient CMMTokenizer tokenizer;
+    final int from, to;
+    final transient CMMTokenStream tokens = new CMMTokenStream();
+    boolean failed;
+
+    ChunkTask(CMMTokenizer tokenizer, int from, int to) { this.tokenizer = tokenizer; this.from = from; this.to = to; }
+
+    protected void compute() {
+      try {
+        tokenizer.tokenizeInto(tokens);
+      } catch (CMMTokenizerException e) {
+        failed = true;
+      }
+    }
+  } // end ChunkTask
+
+  /**
+   * Times CMMTokenizer against the parallel tokenizer at 1, 2, 4... threads up
+   * to the number of cores, and checks that they agree.
+   */
+  public static void main(String[] args) throws Exception {
+    if (args.length == 0) {
+      System.err.println("usage: java CMMParallelTokenizer file.cmm [runs]");
+      System.exit(-1);
+    }
+    Path path = Paths.get(args[0]);
+    int runs = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+    CMMTokenStream expected = null;
+    long best = Long.MAX_VALUE;
+    for (int r = 0; r < runs; r++) {
+      long t0 = System.nanoTime();
+      expected = new CMMTokenizer(path).tokenizeAll();
+      best = Math.min(best, System.nanoTime() - t0);
+    }
+    report("sequential", expected.size(), best);
+
+    int cores = Runtime.getRuntime().availableProcessors();
+    for (int threads = 1; ; threads = Math.min(threads * 2, cores)) {
+      ForkJoinPool pool = new ForkJoinPool(threads);
+      CMMTokenStream actual = null;
+      best = Long.MAX_VALUE;
+      for (int r = 0; r < runs; r++) {
+        long t0 = System.nanoTime();
+        actual = new CMMParallelTokenizer(path).tokenizeAll(pool);
+        best = Math.min(best, System.nanoTime() - t0);
+      }
+      pool.shutdown();
+      if (!sameTokens(expected, actual)) throw new IllegalStateException("parallel tokens differ at " + threads + " threads");
+      report(threads + " threads", actual.size(), best);
+      if (threads == cores) break;
+    }
+  } // end main
+
+  private static void report(String what, int tokens, long nanos) {
+    System.out.printf("%-12s %10d tokens %9.2f ms %8.2f Mtokens/s%n", what, tokens, nanos / 1e6, tokens * 1e3 / nanos);
+  }
+
+  private static boolean sameTokens(CMMTokenStream a, CMMTokenStream b) {
+    if (a.size() != b.size()) return false;
+    for (int i = 0; i < a.size(); i++) {
+      if (a.kind(i) != b.kind(i) || a.start(i) != b.start(i) || a.length(i) != b.length(i)
+          || a.line(i) != b.line(i) || a.column(i) != b.column(i)) return false;
+    }
+    return true;
+  }
+
+} // end CMMParallelTokenizer
@@ -1,132 +1,426 @@
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.Stack;
 public class CMMParser {
 
   private static final String startRuleName = "Program";
 
+  // tokens come from either a tokenizer or a stream lexed up front
   private CMMiTokenizer tokenizer;
+  private CMMTokenStream stream;
+
+  // the lookahead: curToken from the tokenizer, or token streamPos of the stream
+  private CMMToken curToken;
+  private int streamPos = -1;
+
+  // Nodes are made when their rule closes, so a rule that would only be
+  // collapsed away never gets one.  Until then its children wait on kids.
+  private CMMASTNode[] kids = new CMMASTNode[64];
+  private int nkids = 0;
+
+  // the levels of the expression being parsed that have had an operator,
+  // innermost last, and where each one's operands start on kids
+  private int[] opLevel = new int[8], opStart = new int[8];
+  private int ops = 0;
+
+  // How deep element() has recursed.  Past MAX_NESTING the rest of an
+  // element is parsed by the table, whose stack is on the heap, so deeply
+  // nested parentheses, nots and calls cannot overflow Java's stack.
+  private static final int MAX_NESTING = 100;
+  private int nesting = 0;
+
+  // one column per token kind, eof first
+  private static final int KINDS = CMMTokenizerTables.TOKEN_NAMES.length + 1;
+
+  // The LL(1) table with nonterminals numbered: rules[rule * KINDS + kind + 1]
+  // is how to expand nonterminal rule on a token of that kind, or null if the
+  // token cannot start it.  The grammar never changes, so the table is built
+  // once, when the class is initialized, and every parser shares it.  Nothing
+  // in it is written after that, so parsers on different threads can read it.
+  private static final GrammarRule[] rules;
+  private static final String[] ruleNames;
+
+  // The parser's stack holds states as ints: the low ACTION_BITS say what to
+  // do, and the rest is the token kind + 1 to match or the rule to expand.
+  // CLOSE ends the rule that pushed it, making its node if it needs one.
+  private static final int ACTION_BITS = 2, ACTION = (1 << ACTION_BITS) - 1;
+  private static final int CLOSE = 0;
+  private static final int START; // expands the start rule
+
+  // Expressions are parsed by hand, not through the table; see logical().
+  // The chain goes Logical, Comparison, Sum, Term, Exp, one level per rule,
+  // and each level's rule is its operand then a tail subrule that takes
+  // an operator and another operand, or ends the level.
+  private static final int LOGICAL = 0, COMPARISON = 1, EXP = 4;
+  private static final String[] levelNames = { "Logical", "Comparison", "Sum", "Term", "Exp" };
+  private static final GrammarRule[] levelRule = new GrammarRule[levelNames.length];
+  private static final int[] levelId = new int[levelNames.length];
+  private static final int[] levelOperand = new int[levelNames.length];
+  private static final int[] levelTail = new int[levelNames.length];
+  private static final GrammarRule assignmentRule, elementRule, constantRule, nottedRule, elementPlusRule, argumentsRule;
+  private static final int ASSIGNMENT, ASSIGNMENT_TAIL, ELEMENT, ELEMENT_PLUS_TAIL, ARGUMENTS, ARGUMENTS_TAIL;
+
+  static {
+    HashMap<String, HashMap<String, GrammarRule>> table = buildTable();
+    HashMap<String, Integer> ids = new HashMap<String, Integer>();
+    ruleNames = new String[table.size()];
+    for (String name : table.keySet()) { ruleNames[ids.size()] = name; ids.put(name, ids.size()); }
+    rules = index(table, ids);
+    START = ids.get(startRuleName) << ACTION_BITS | GrammarState.RULE;
+
+    // The subrules the expression parser reads are found by following the
+    // expansions in the table, and checked to have the shape it assumes, so
+    // a change to cmm.g that breaks it fails here rather than in a parse.
+    for (int l = 0; l < levelNames.length; l++) {
+      // Level -> Operand Tail; every rule of the chain can start with an id
+      levelRule[l] = rule(table, levelNames[l], "id");
+      levelId[l] = ids.get(levelNames[l]);
+      levelOperand[l] = ids.get(state(levelRule[l], 0, l < EXP ? levelNames[l + 1] : "Element"));
+      String tail = state(levelRule[l], 1, null);
+      levelTail[l] = ids.get(tail);
+      // an operator expands the tail to an operand and the tail again, but
+      // a Comparison's tail takes one operator and ends
+      GrammarRule more = null;
+      for (GrammarRule r : table.get(tail).values()) if (!epsilon(r)) more = r;
+      shape(more != null && more.graph[more.graph.length - 1].name.equals(tail) == (l != COMPARISON), tail);
+    }
+
+    // Assignment -> Logical Tail, the tail taking gets
+    assignmentRule = rule(table, "Assignment", "id");
+    ASSIGNMENT = ids.get("Assignment");
+    state(assignmentRule, 0, "Logical");
+    ASSIGNMENT_TAIL = ids.get(tail(table, assignmentRule, "gets", null));
+
+    elementRule = rule(table, "Element", "id");
+    ELEMENT = ids.get("Element");
+    constantRule = rule(table, "Constant", "number");
+    nottedRule = rule(table, "NottedElement", "not");
+
+    // ElementPlus -> id Tail, the tail taking an ArgumentList
+    elementPlusRule = rule(table, "ElementPlus", "id");
+    ELEMENT_PLUS_TAIL = ids.get(tail(table, elementPlusRule, "lparen", null));
+
+    // ArgumentList -> lparen Arguments rparen, where Arguments is empty or
+    // Assignment Tail, the tail taking listsep Assignment and ending at rparen
+    argumentsRule = rule(table, "ArgumentList", "lparen");
+    String arguments = tail(table, argumentsRule, "id", "rparen");
+    ARGUMENTS = ids.get(arguments);
+    GrammarRule list = rule(table, state(rule(table, arguments, "id"), 0, null), "id");
+    state(list, 0, "Assignment");
+    ARGUMENTS_TAIL = ids.get(tail(table, list, "listsep", "rparen"));
+  }
 
-  private HashMap<String, HashMap<String, GrammarRule>> table = new HashMap<String, HashMap<String, GrammarRule>>();
+  public CMMParser (CMMiTokenizer tokenizer) { this.tokenizer = tokenizer; }
 
-  public CMMParser (CMMiTokenizer tokenizer) { this.tokenizer = tokenizer; buildTable(); }
+  public CMMParser (CMMTokenStream stream) { this.stream = stream; }
 
   public CMMASTProgramNode parse() throws CMMParserException, CMMTokenizerException {
-    CMMToken curToken;
+    // start afresh, even after a parse that failed part way
+    nkids = 0;
+    ops = 0;
+    nesting = 0;
+
+    nextToken();
+    drive(START);
+    return (CMMASTProgramNode) kids[0];
+  }
 
-    GrammarState curState;
+  /**
+   * Runs the table from state until all that it expands to has been
+   * parsed, leaving what it makes on kids, or until eof ends the start rule.
+   */
+  private void drive(int state) throws CMMParserException, CMMTokenizerException {
+    // what is left to parse, as state codes, innermost last
+    int[] stack = new int[64];
+    int sp = 0;
 
-    Stack<GrammarState> stateStack = new Stack<GrammarState>();
+    // the rules being parsed, outermost first: open[d] is one, and its
+    // children start at kids[openKids[d]]
+    GrammarRule[] open = new GrammarRule[16];
+    int[] openKids = new int[16];
+    int depth = 0;
 
-    CMMASTProgramNode parseTree = null;
-    CMMASTNode curNode = null;
+    stack[sp++] = state;
 
-    stateStack.push(new GrammarState(startRuleName, GrammarState.RULE));
+    while ( sp > 0 ) {
 
-    curToken = tokenizer.nextToken();
+      int curState = stack[--sp];
 
-    while ( true ) {
+      switch (curState & ACTION) {
 
-      curState = stateStack.pop();
+      case CLOSE: {
 
-      if (curState == null) {
+        GrammarRule rule = open[--depth];
+        int first = openKids[depth];
 
-        CMMASTNode nextNode = curNode.getParent();
+        // a [>1] rule with one child leaves just the child, and a rule with
+        // no children leaves nothing; either way the kids are already right
+        if (nkids - first > 1 || (nkids - first == 1 && !rule.multi_child)) reduce(rule, first);
+        break;
+      }
 
-        if (curNode.isMultiChild() && curNode.numChildren() == 1) {
-          CMMASTNode parentNode = curNode.getParent();
-          parentNode.removeChild(curNode);
+      case GrammarState.TOKEN: {
 
-          CMMASTNode childNode = curNode.getChild(0);
-          curNode.removeChild(childNode);
-          parentNode.addChild(childNode);
-        }
-        else if (curNode.numChildren() == 0) {
-          curNode.getParent().removeChild(curNode);
-        }
+        check((curState >> ACTION_BITS) - 1);
 
-        curNode = nextNode;
+        if (curKind() == CMMTokenizer.EOF_TOKEN) {
+          // eof ends the parse inside the start rule, which is never closed;
+          // whatever is still open becomes a node as it is
+          while (depth > 0) {
+            int first = openKids[--depth];
+            reduce(open[depth], first);
+          }
+          return;
+        }
 
+        shift();
+        break;
       }
-      else if (curState.type == GrammarState.TOKEN) {
 
-        if (!curState.name.equals(curToken.name)) {
-          throw new CMMParserException("Invalid token \"" + curToken.value + "\" (" + curToken.name + "), expected token (" + curState.name + ")"	, curToken.line, curToken.column);
-        }
+      case GrammarState.RULE: {
 
-        if (curToken.name.equals("eof")) break;
+        int rule = curState >> ACTION_BITS;
+        GrammarRule newrule = expand(rule);
 
-        curNode.addChild(new CMMASTToken(curToken.name, curToken.value));
+        // past MAX_NESTING the table parses expressions too
+        if (rule == ASSIGNMENT && nesting < MAX_NESTING) {
+          assignment();
+          break;
+        }
 
-        curToken = tokenizer.nextToken();
+        if (!newrule.subrule) {
+          if (depth == open.length) {
+            open = Arrays.copyOf(open, depth * 2);
+            openKids = Arrays.copyOf(openKids, depth * 2);
+          }
+          open[depth] = newrule;
+          openKids[depth++] = nkids;
+        }
 
+        // the rule's states, last first, under a CLOSE if it makes a node
+        int[] push = newrule.push;
+        if (sp + push.length > stack.length) stack = Arrays.copyOf(stack, Math.max(sp + push.length, stack.length * 2));
+        System.arraycopy(push, 0, stack, sp, push.length);
+        sp += push.length;
+        break;
       }
-      else if (curState.type == GrammarState.RULE) {
 
-        GrammarRule newrule = table.get(curState.name).get(curToken.name);
+      default: // EPSILON
+        break;
+      }
 
-        if (newrule == null) {
-          String expected = "";
-          for (String t : table.get(curState.name).keySet()) if (t != null) expected += t + ", ";
-          throw new CMMParserException("Invalid token \"" + curToken.value + "\" (" + curToken.name + ") for rule \"" + curState.name.replaceAll("\\{.*", "") + "\", expected one of (" + expected.substring(0, expected.length()-2) + ")", curToken.line, curToken.column);
-        }
+    }
 
-        if (!newrule.subrule) {
-          if (parseTree == null) {
-            curNode = parseTree = new CMMASTProgramNode(newrule.name, null, newrule.multi_child);
-          } else {
-            CMMASTNode newnode = makenode(newrule.name, null, newrule.multi_child);
-            curNode.addChild(newnode);
-            curNode = newnode;
-          }
+  }
 
-          stateStack.push(null);
-        }
+  /**
+   * Parses an Assignment, the whole of any expression: a Logical, and
+   * another after gets if there is one.
+   */
+  private void assignment() throws CMMParserException, CMMTokenizerException {
+    int first = nkids;
+    logical();
+    if (!epsilon(expand(ASSIGNMENT_TAIL))) {
+      shift(); // gets
+      expand(levelId[LOGICAL]);
+      logical();
+    }
+    reduce(assignmentRule, first);
+  } // end assignment
+
+  /**
+   * Parses a Logical in one loop over its operands, where the table would
+   * expand every level of the chain, Logical down to Exp, for each one.
+   *
+   * The levels that have had an operator are kept on opLevel, innermost
+   * last.  An operator at level l first closes the levels inside l, making
+   * each one's node from all of its operands and operators at once; then it
+   * joins l's list, or starts one with the operand before it.  A level with
+   * one operand never gets a node, just as the table's [>1] collapses it.
+   *
+   * Which level a token continues, if any, is read from the levels' tails
+   * in the table, innermost first as the table would try them, and a token
+   * that no tail can take is the same error the table driver gives.
+   */
+  private void logical() throws CMMParserException, CMMTokenizerException {
+    int base = ops;
+    boolean compared = false; // a Comparison takes one operator at most
+    element();
+    while (true) {
+      int l = EXP;
+      for (; l >= LOGICAL; l--) {
+        if (l == COMPARISON && compared) continue;
+        if (!epsilon(expand(levelTail[l]))) break;
+      }
+      if (l < LOGICAL) break;
 
-        for (int i = newrule.graph.length-1; i >= 0; i--) {
-          stateStack.push(newrule.graph[i]);
+      while (ops > base && opLevel[ops - 1] > l) {
+        if (opLevel[--ops] == COMPARISON) compared = false;
+        reduce(levelRule[opLevel[ops]], opStart[ops]);
+      }
+      if (ops == base || opLevel[ops - 1] < l) {
+        if (ops == opLevel.length) {
+          opLevel = Arrays.copyOf(opLevel, ops * 2);
+          opStart = Arrays.copyOf(opStart, ops * 2);
         }
+        opLevel[ops] = l;
+        opStart[ops++] = nkids - 1;
+      }
+      if (l == COMPARISON) compared = true;
+
+      shift(); // the operator
+      expand(levelOperand[l]);
+      element();
+    }
+    while (ops > base) {
+      ops--;
+      reduce(levelRule[opLevel[ops]], opStart[ops]);
+    }
+  } // end logical
+
+  /**
+   * Parses an Element: a constant, a variable or call, a not, or a Logical
+   * in parentheses.  The current token must be able to start one.
+   */
+  private void element() throws CMMParserException, CMMTokenizerException {
+    if (nesting == MAX_NESTING) {
+      drive(ELEMENT << ACTION_BITS | GrammarState.RULE);
+      return;
+    }
+    nesting++;
+    int first = nkids;
+    int kind = curKind();
+    if (kind == CMMTokenizer.LPAREN_TOKEN) {
+      shift();
+      expand(levelId[LOGICAL]);
+      logical();
+      check(CMMTokenizer.RPAREN_TOKEN);
+      shift();
+    } else if (kind == CMMTokenizer.ID_TOKEN) {
+      shift();
+      if (!epsilon(expand(ELEMENT_PLUS_TAIL))) arguments();
+      reduce(elementPlusRule, first);
+    } else if (kind == CMMTokenizer.NOT_TOKEN) {
+      shift();
+      expand(ELEMENT);
+      element();
+      reduce(nottedRule, first);
+    } else {
+      shift(); // string, number or boolean
+      reduce(constantRule, first);
+    }
+    reduce(elementRule, first);
+    nesting--;
+  } // end element
+
+  /** Parses an ArgumentList: Assignments between parentheses, separated by commas. */
+  private void arguments() throws CMMParserException, CMMTokenizerException {
+    int first = nkids;
+    shift(); // lparen
+    if (!epsilon(expand(ARGUMENTS))) {
+      assignment();
+      while (!epsilon(expand(ARGUMENTS_TAIL))) {
+        shift(); // listsep
+        expand(ASSIGNMENT);
+        assignment();
       }
-      else if (curState.type == GrammarState.EPSILON) {
-        continue; //do nothing
+    }
+    check(CMMTokenizer.RPAREN_TOKEN);
+    shift();
+    reduce(argumentsRule, first);
+  } // end arguments
+
+  /** How the table expands rule on the current token; an error if the token cannot come there. */
+  private GrammarRule expand(int rule) throws CMMParserException {
+    GrammarRule r = rules[rule * KINDS + curKind() + 1];
+    if (r == null) {
+      String expected = "";
+      for (int k = 0; k < KINDS; k++) {
+        if (rules[rule * KINDS + k] != null) expected += CMMTokenizer.tokenName(k - 1) + ", ";
       }
+      throw new CMMParserException("Invalid token \"" + curValue() + "\" (" + curName() + ") for rule \"" + ruleNames[rule].replaceAll("\\{.*", "") + "\", expected one of (" + expected.substring(0, expected.length()-2) + ")", curLine(), curColumn());
+    }
+    return r;
+  }
+
+  private static boolean epsilon(GrammarRule r) { return r.graph[0].type == GrammarState.EPSILON; }
 
+  /** An error unless the current token is of kind. */
+  private void check(int kind) throws CMMParserException {
+    if (kind != curKind()) {
+      throw new CMMParserException("Invalid token \"" + curValue() + "\" (" + curName() + "), expected token (" + CMMTokenizer.tokenName(kind) + ")"	, curLine(), curColumn());
     }
+  }
+
+  /** Adds the current token to kids and moves to the next. */
+  private void shift() throws CMMTokenizerException {
+    if (nkids == kids.length) kids = Arrays.copyOf(kids, nkids * 2);
+    if (curKind() == CMMTokenizer.NUMBER_TOKEN) kids[nkids++] = new CMMASTToken(curName(), curValue(), curNumber());
+    else if (curKind() == CMMTokenizer.STRING_TOKEN) kids[nkids++] = new CMMASTToken(curName(), curValue(), curString());
+    else if (curKind() == CMMTokenizer.ID_TOKEN) kids[nkids++] = new CMMASTToken(curName(), curValue(), curSymbol());
+    else kids[nkids++] = new CMMASTToken(curName(), curValue());
+    nextToken();
+  }
 
-    return parseTree;
+  /** Makes rule's node from kids[first] on, which it replaces. */
+  private void reduce(GrammarRule rule, int first) {
+    CMMASTNode node = rule.factory.make(rule.name, null, rule.multi_child);
+    for (int i = first; i < nkids; i++) node.addChild(kids[i]);
+    kids[first] = node;
+    nkids = first + 1;
+  }
 
+  private void nextToken() throws CMMTokenizerException {
+    // a stream stays on its eof, as a tokenizer keeps returning it
+    if (stream != null) { if (streamPos < stream.size() - 1) streamPos++; }
+    else curToken = tokenizer.nextToken();
   }
 
-  private CMMASTNode makenode(String rulename, String value, boolean multi_child) {
-    if (rulename.equals("Parameter")) return new CMMASTParameterNode(rulename, value, multi_child);
-    if (rulename.equals("Sum")) return new CMMASTSumNode(rulename, value, multi_child);
-    if (rulename.equals("SimpleStatement")) return new CMMASTSimpleStatementNode(rulename, value, multi_child);
-    if (rulename.equals("Constant")) return new CMMASTConstantNode(rulename, value, multi_child);
-    if (rulename.equals("Logical")) return new CMMASTLogicalNode(rulename, value, multi_child);
-    if (rulename.equals("ParameterList")) return new CMMASTParameterListNode(rulename, value, multi_child);
-    if (rulename.equals("ArgumentList")) return new CMMASTArgumentListNode(rulename, value, multi_child);
-    if (rulename.equals("Element")) return new CMMASTElementNode(rulename, value, multi_child);
-    if (rulename.equals("ExpressionList")) return new CMMASTExpressionListNode(rulename, value, multi_child);
-    if (rulename.equals("NottedElement")) return new CMMASTNottedElementNode(rulename, value, multi_child);
-    if (rulename.equals("Comparison")) return new CMMASTComparisonNode(rulename, value, multi_child);
-    if (rulename.equals("ElementPlus")) return new CMMASTElementPlusNode(rulename, value, multi_child);
-    if (rulename.equals("Term")) return new CMMASTTermNode(rulename, value, multi_child);
-    if (rulename.equals("Condition")) return new CMMASTConditionNode(rulename, value, multi_child);
-    if (rulename.equals("WhileLoop")) return new CMMASTWhileLoopNode(rulename, value, multi_child);
-    if (rulename.equals("DoLoop")) return new CMMASTDoLoopNode(rulename, value, multi_child);
-    if (rulename.equals("ReturnStatement")) return new CMMASTReturnStatementNode(rulename, value, multi_child);
-    if (rulename.equals("Exp")) return new CMMASTExpNode(rulename, value, multi_child);
-    if (rulename.equals("FunctionDefinition")) return new CMMASTFunctionDefinitionNode(rulename, value, multi_child);
-    if (rulename.equals("Assignment")) return new CMMASTAssignmentNode(rulename, value, multi_child);
-    if (rulename.equals("Statement")) return new CMMASTStatementNode(rulename, value, multi_child);
-    if (rulename.equals("Type")) return new CMMASTTypeNode(rulename, value, multi_child);
-    if (rulename.equals("IfStatement")) return new CMMASTIfStatementNode(rulename, value, multi_child);
-    if (rulename.equals("Declaration")) return new CMMASTDeclarationNode(rulename, value, multi_child);
-    if (rulename.equals("Program")) return new CMMASTProgramNode(rulename, value, multi_child);
-    if (rulename.equals("Block")) return new CMMASTBlockNode(rulename, value, multi_child);
+  private int curKind() { return stream != null ? stream.kind(streamPos) : curToken.type; }
+  private String curName() { return stream != null ? stream.name(streamPos) : curToken.name; }
+  private String curValue() { return stream != null ? stream.value(streamPos) : curToken.getValue(); }
+  private double curNumber() { return stream != null ? stream.number(streamPos) : curToken.number; }
+  private String curString() { return stream != null ? stream.string(streamPos) : curToken.string; }
+  private int curSymbol() { return stream != null ? stream.symbol(streamPos) : curToken.symbol; }
+  private int curLine() { return stream != null ? stream.line(streamPos) : curToken.line; }
+  private int curColumn() { return stream != null ? stream.column(streamPos) : curToken.column; }
+
+  /** Builds the AST node for a rule; one per rule, picked when the table is built. */
+  private interface NodeFactory {
+    CMMASTNode make(String rulename, String value, boolean multi_child);
+  }
+
+  private static NodeFactory nodeFactory(String rulename) {
+    if (rulename.equals("Parameter")) return CMMASTParameterNode::new;
+    if (rulename.equals("Sum")) return CMMASTSumNode::new;
+    if (rulename.equals("SimpleStatement")) return CMMASTSimpleStatementNode::new;
+    if (rulename.equals("Constant")) return CMMASTConstantNode::new;
+    if (rulename.equals("Logical")) return CMMASTLogicalNode::new;
+    if (rulename.equals("ParameterList")) return CMMASTParameterListNode::new;
+    if (rulename.equals("ArgumentList")) return CMMASTArgumentListNode::new;
+    if (rulename.equals("Element")) return CMMASTElementNode::new;
+    if (rulename.equals("ExpressionList")) return CMMASTExpressionListNode::new;
+    if (rulename.equals("NottedElement")) return CMMASTNottedElementNode::new;
+    if (rulename.equals("Comparison")) return CMMASTComparisonNode::new;
+    if (rulename.equals("ElementPlus")) return CMMASTElementPlusNode::new;
+    if (rulename.equals("Term")) return CMMASTTermNode::new;
+    if (rulename.equals("Condition")) return CMMASTConditionNode::new;
+    if (rulename.equals("WhileLoop")) return CMMASTWhileLoopNode::new;
+    if (rulename.equals("DoLoop")) return CMMASTDoLoopNode::new;
+    if (rulename.equals("ReturnStatement")) return CMMASTReturnStatementNode::new;
+    if (rulename.equals("Exp")) return CMMASTExpNode::new;
+    if (rulename.equals("FunctionDefinition")) return CMMASTFunctionDefinitionNode::new;
+    if (rulename.equals("Assignment")) return CMMASTAssignmentNode::new;
+    if (rulename.equals("Statement")) return CMMASTStatementNode::new;
+    if (rulename.equals("Type")) return CMMASTTypeNode::new;
+    if (rulename.equals("IfStatement")) return CMMASTIfStatementNode::new;
+    if (rulename.equals("Declaration")) return CMMASTDeclarationNode::new;
+    if (rulename.equals("Program")) return CMMASTProgramNode::new;
+    if (rulename.equals("Block")) return CMMASTBlockNode::new;
     throw new RuntimeException("Unknown rule name, cannot make node \"" + rulename + "\"");
   }
 
-  private void buildTable() {
+  private static HashMap<String, HashMap<String, GrammarRule>> buildTable() {
+    HashMap<String, HashMap<String, GrammarRule>> table = new HashMap<String, HashMap<String, GrammarRule>>();
     GrammarState[] graph;
     table.put("Condition", new HashMap<String, GrammarRule>());
       graph = new GrammarState[3];
@@ -1564,23 +1858,88 @@ public class CMMParser {
       graph[0] = new GrammarState("Constant", 2);
       table.get("Element").put("boolean", new GrammarRule("Element", false, false, graph));
 
+    return table;
   }
 
-  private class GrammarRule {
+  /**
+   * Lays table out by the nonterminal numbers in ids, so a parse step indexes
+   * an array by nonterminal and token kind instead of looking up names.  Each
+   * rule that makes a node gets its node factory here too.
+   */
+  private static GrammarRule[] index(HashMap<String, HashMap<String, GrammarRule>> table, HashMap<String, Integer> ids) {
+    GrammarRule[] rules = new GrammarRule[ids.size() * KINDS];
+    for (String name : table.keySet()) {
+      int rule = ids.get(name);
+      for (String token : table.get(name).keySet()) {
+        // the generator's end-of-input marker; no token has this name
+        if (token.equals("null")) continue;
+        GrammarRule r = table.get(name).get(token);
+        if (!r.subrule && r.factory == null) r.factory = nodeFactory(r.name);
+        rules[rule * KINDS + CMMTokenizer.tokenKind(token) + 1] = r;
+        if (r.push == null) {
+          r.push = new int[r.graph.length + (r.subrule ? 0 : 1)];
+          int n = 0;
+          if (!r.subrule) r.push[n++] = CLOSE;
+          for (int i = r.graph.length - 1; i >= 0; i--) r.push[n++] = code(r.graph[i], ids);
+        }
+      }
+    }
+    return rules;
+  } // end index
+
+  // name's expansion on token
+  private static GrammarRule rule(HashMap<String, HashMap<String, GrammarRule>> table, String name, String token) {
+    GrammarRule r = table.containsKey(name) ? table.get(name).get(token) : null;
+    shape(r != null, name + " on " + token);
+    return r;
+  }
+
+  // the rule state i of r's expansion expands, which must be name if it is given
+  private static String state(GrammarRule r, int i, String name) {
+    shape(i < r.graph.length && r.graph[i].type == GrammarState.RULE && (name == null || r.graph[i].name.equals(name)), r.name + " state " + i);
+    return r.graph[i].name;
+  }
+
+  // the subrule after the first state of r's expansion, which must go on at
+  // token, and end at end if it is given
+  private static String tail(HashMap<String, HashMap<String, GrammarRule>> table, GrammarRule r, String token, String end) {
+    String tail = state(r, 1, null);
+    shape(!epsilon(rule(table, tail, token)) && (end == null || epsilon(rule(table, tail, end))), tail + " on " + token);
+    return tail;
+  }
+
+  private static void shape(boolean ok, String what) {
+    if (!ok) throw new IllegalStateException("The expression parser does not fit the grammar at " + what);
+  }
+
+  /** The int that stands for state on the parser's stack. */
+  private static int code(GrammarState state, HashMap<String, Integer> ids) {
+    if (state.type == GrammarState.TOKEN) return (state.kind + 1) << ACTION_BITS | GrammarState.TOKEN;
+    if (state.type == GrammarState.RULE) return ids.get(state.name) << ACTION_BITS | GrammarState.RULE;
+    return GrammarState.EPSILON;
+  }
+
+  private static class GrammarRule {
     String name;
     boolean multi_child, subrule;
     GrammarState[] graph;
+    NodeFactory factory; // makes the node for a rule that is not a subrule
+    int[] push; // what expanding the rule pushes on the parser's stack
 
     public GrammarRule(String n, boolean m, boolean s, GrammarState[] g) {
       name = n; multi_child = m; subrule = s; graph = g;
     }
   } // end GrammarRule
 
-  private class GrammarState {
+  private static class GrammarState {
     public static final int TOKEN = 1, RULE = 2, EPSILON = 3;
     String name;
     int type;
-    public GrammarState(String n, int t) { name = n; type = t; }
+    int kind; // token kind a TOKEN state matches
+    public GrammarState(String n, int t) {
+      name = n; type = t;
+      if (type == TOKEN) kind = CMMTokenizer.tokenKind(name);
+    }
   } // end GrammarState
 
 } // end CMMParser
@@ -0,0 +1,139 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures CMMParser throughput and allocation, the way CMMTokenizerBenchmark
+ * does for the lexer: warmup iterations, then measured iterations of a fixed
+ * length.  "stream" parses a CMMTokenStream lexed beforehand, so it times the
+ * parser alone; "tokenizer" pulls tokens from a CMMTokenizer as it goes, as
+ * the compilers do.  Allocation is per token and includes the AST; so much of
+ * a parse can go to collecting it that the share of time spent in GC is
+ * reported too.
+ *
+ * With no files given it parses generated inputs: code like simple2.cmm,
+ * expression-heavy code, and one large file.
+ *
+ * Usage: java CMMParserBenchmark [-wi warmups] [-i iterations] [-ms ms per iteration]
+ *                                [-large MB] [-modes stream,tokenizer] [file.cmm ...]
+ */
+public class CMMParserBenchmark {
+
+  private static final String[] MODES = { "stream", "tokenizer" };
+
+  // what was parsed, so the JIT cannot drop the work
+  static volatile Object sink;
+
+  public static void main(String[] args) throws Exception {
+    int warmups = 3, iterations = 5, largeMB = 16;
+    long iterationNanos = 1_000_000_000L;
+    String[] modes = MODES;
+    List<String> names = new ArrayList<String>();
+    List<byte[]> inputs = new ArrayList<byte[]>();
+
+    for (int a = 0; a < args.length; a++) {
+      if (args[a].equals("-wi")) warmups = Integer.parseInt(args[++a]);
+      else if (args[a].equals("-i")) iterations = Integer.parseInt(args[++a]);
+      else if (args[a].equals("-ms")) iterationNanos = Long.parseLong(args[++a]) * 1_000_000L;
+      else if (args[a].equals("-large")) largeMB = Integer.parseInt(args[++a]);
+      else if (args[a].equals("-modes")) modes = args[++a].split(",");
+      else if (args[a].startsWith("-")) {
+        System.err.println("usage: java CMMParserBenchmark [-wi warmups] [-i iterations] [-ms ms per iteration] [-large MB] [-modes stream,tokenizer] [file.cmm ...]");
+        System.exit(-1);
+      } else {
+        names.add(Paths.get(args[a]).getFileName().toString());
+        inputs.add(Files.readAllBytes(Paths.get(args[a])));
+      }
+    }
+    if (inputs.isEmpty()) {
+      Random random = new Random(42);
+      names.add("simple2");     inputs.add(CMMTokenizerBenchmark.program(random, 1 << 20));
+      names.add("expressions"); inputs.add(expressions(random, 1 << 20));
+      names.add("large");       inputs.add(CMMTokenizerBenchmark.program(random, largeMB << 20));
+    }
+
+    System.out.printf("%d warmup and %d measured iterations of %d ms each%n", warmups, iterations, iterationNanos / 1_000_000);
+    System.out.printf("%-12s %-10s %10s %18s %16s %10s %6s%n", "input", "mode", "tokens", "Mtokens/s", "MB/s", "B/token", "GC");
+    for (int k = 0; k < inputs.size(); k++) {
+      byte[] source = inputs.get(k);
+      CMMTokenStream tokens = new CMMTokenizer(source).tokenizeAll();
+      for (String mode : modes) {
+        for (int w = 0; w < warmups; w++) iteration(mode, source, tokens, iterationNanos);
+        double[] tokensPerSecond = new double[iterations], bytesPerSecond = new double[iterations];
+        double allocated = 0, gc = 0;
+        for (int i = 0; i < iterations; i++) {
+          long[] r = iteration(mode, source, tokens, iterationNanos);
+          long nanos = r[0], passes = r[1], bytes = r[2];
+          gc += r[3] * 1e6 / nanos;
+          tokensPerSecond[i] = passes * (tokens.size() - 1) * 1e3 / nanos;
+          bytesPerSecond[i] = (double) passes * source.length * 1e3 / nanos;
+          allocated += (double) bytes / (passes * (tokens.size() - 1));
+        }
+        System.out.printf("%-12s %-10s %10d %9.2f +- %6.2f %8.1f +- %5.1f %10.1f %5.0f%%%n", names.get(k), mode, tokens.size() - 1,
+            CMMTokenizerBenchmark.mean(tokensPerSecond), CMMTokenizerBenchmark.error(tokensPerSecond),
+            CMMTokenizerBenchmark.mean(bytesPerSecond), CMMTokenizerBenchmark.error(bytesPerSecond),
+            allocated / iterations, gc * 100 / iterations);
+      }
+    }
+  } // end main
+
+  /**
+   * Parses over and over for at least nanos; returns the time, the passes, the
+   * bytes allocated and the milliseconds spent in GC.
+   */
+  private static long[] iteration(String mode, byte[] source, CMMTokenStream tokens, long nanos) throws Exception {
+    long passes = 0, elapsed;
+    long gc0 = gcMillis(), allocated0 = CMMTokenizerBenchmark.allocatedBytes(), t0 = System.nanoTime();
+    do {
+      CMMParser p;
+      if (mode.equals("stream")) p = new CMMParser(tokens);
+      else if (mode.equals("tokenizer")) p = new CMMParser(new CMMTokenizer(source));
+      else throw new IllegalArgumentException("Unknown mode " + mode);
+      sink = p.parse();
+      passes++;
+      elapsed = System.nanoTime() - t0;
+    } while (elapsed < nanos);
+    return new long[] { elapsed, passes, CMMTokenizerBenchmark.allocatedBytes() - allocated0, gcMillis() - gc0 };
+  } // end iteration
+
+  private static long gcMillis() {
+    long millis = 0;
+    for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) millis += Math.max(0, gc.getCollectionTime());
+    return millis;
+  }
+
+  private static final String[] OPERATORS = { "+", "-", "*", "/", "%", "^", "&", "|" };
+  private static final String[] COMPARISONS = { "<", ">", "==", "<=", ">=", "!=" };
+
+  private static String expression(Random random, int depth) {
+    int c = random.nextInt(depth > 3 ? 3 : 7);
+    if (c == 0) return Integer.toString(random.nextInt(1000));
+    if (c == 1) return "v" + random.nextInt(50);
+    if (c == 2) return "\"s" + random.nextInt(10) + "\"";
+    if (c == 3) return "(" + expression(random, depth + 1) + ")";
+    if (c == 4) return "f" + random.nextInt(10) + "(" + expression(random, depth + 1) + ", " + expression(random, depth + 1) + ")";
+    if (c == 5) return expression(random, depth + 1) + " " + OPERATORS[random.nextInt(OPERATORS.length)] + " " + expression(random, depth + 1);
+    // a comparison takes no comparison as an operand unless it is in parentheses
+    return "(" + expression(random, depth + 1) + " " + COMPARISONS[random.nextInt(COMPARISONS.length)] + " " + expression(random, depth + 1) + ")";
+  } // end expression
+
+  /** Functions made of long assignments and conditions. */
+  private static byte[] expressions(Random random, int size) {
+    StringBuilder s = new StringBuilder(size + 1024);
+    for (int f = 0; s.length() < size; f++) {
+      s.append("number g").append(f).append("(number a) {\n");
+      for (int i = 0; i < 20; i++) {
+        if (random.nextInt(4) == 0) s.append("  while (").append(expression(random, 0)).append(") { a = a - 1; }\n");
+        else s.append("  v").append(random.nextInt(50)).append(" = ").append(expression(random, 0)).append(";\n");
+      }
+      s.append("  return a;\n}\n");
+    }
+    return s.toString().getBytes(StandardCharsets.UTF_8);
+  } // end expressions
+
+} // end CMMParserBenchmark
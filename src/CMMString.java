@@ -3,7 +3,7 @@ public class CMMString extends CMMData {
 	protected String value;
 	
 	public CMMString(String value) {
-		this.value = value.replaceAll("\\\"", "\"");
+		this.value = value;
 	}
 	
 	public String value() {
@@ -0,0 +1,99 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Interns identifiers for one compilation.  Each distinct name gets a dense
+ * symbol id, counting from 0 in the order names are first seen, and one
+ * String that every occurrence shares, so names can be compared with == and
+ * per-name data kept in arrays indexed by symbol.
+ *
+ * Names are looked up straight from a slice of the source, so an identifier
+ * that has been seen before costs no String.  Identifiers are ASCII, which
+ * lets a UTF-8 byte slice hash and compare as the chars it holds.
+ */
+public class CMMSymbolTable {
+
+  private String[] names = new String[64];
+  private int[] hashes = new int[64];
+  private int size = 0;
+
+  // open addressing: slot holds symbol + 1, or 0 when empty
+  private int[] slots = new int[128];
+
+  /** Returns the symbol for name, adding it if it is new. */
+  public int intern(String name) {
+    int h = name.hashCode();
+    int mask = slots.length - 1;
+    for (int i = h & mask; ; i = (i + 1) & mask) {
+      int s = slots[i] - 1;
+      if (s < 0) return add(i, h, name);
+      if (hashes[s] == h && names[s].equals(name)) return s;
+    }
+  } // end intern
+
+  /** Returns the symbol for text[start, start + length). */
+  int intern(char[] text, int start, int length) {
+    int h = 0;
+    for (int i = start; i < start + length; i++) h = 31 * h + text[i];
+    int mask = slots.length - 1;
+    for (int i = h & mask; ; i = (i + 1) & mask) {
+      int s = slots[i] - 1;
+      if (s < 0) return add(i, h, new String(text, start, length));
+      if (hashes[s] == h && matches(names[s], text, start, length)) return s;
+    }
+  } // end intern
+
+  /** Returns the symbol for the ASCII bytes [start, start + length). */
+  int intern(ByteBuffer bytes, int start, int length) {
+    int h = 0;
+    for (int i = start; i < start + length; i++) h = 31 * h + bytes.get(i);
+    int mask = slots.length - 1;
+    for (int i = h & mask; ; i = (i + 1) & mask) {
+      int s = slots[i] - 1;
+      if (s < 0) return add(i, h, CMMTokenizer.decode(bytes, start, length));
+      if (hashes[s] == h && matches(names[s], bytes, start, length)) return s;
+    }
+  } // end intern
+
+  /** The interned name of symbol. */
+  public String name(int symbol) { return names[symbol]; }
+
+  /** How many symbols there are; every symbol is below this. */
+  public int size() { return size; }
+
+  private int add(int slot, int h, String name) {
+    if (size == names.length) {
+      names = Arrays.copyOf(names, size * 2);
+      hashes = Arrays.copyOf(hashes, size * 2);
+    }
+    names[size] = name;
+    hashes[size] = h;
+    slots[slot] = ++size;
+    // keep the table at most half full
+    if (size * 2 > slots.length) rehash();
+    return size - 1;
+  } // end add
+
+  private void rehash() {
+    slots = new int[slots.length * 2];
+    int mask = slots.length - 1;
+    for (int s = 0; s < size; s++) {
+      int i = hashes[s] & mask;
+      while (slots[i] != 0) i = (i + 1) & mask;
+      slots[i] = s + 1;
+    }
+  } // end rehash
+
+  private static boolean matches(String name, char[] text, int start, int length) {
+    if (name.length() != length) return false;
+    for (int i = 0; i < length; i++) if (name.charAt(i) != text[start + i]) return false;
+    return true;
+  }
+
+  private static boolean matches(String name, ByteBuffer bytes, int start, int length) {
+    if (name.length() != length) return false;
+    for (int i = 0; i < length; i++) if (name.charAt(i) != bytes.get(start + i)) return false;
+    return true;
+  }
+
+} // end CMMSymbolTable
@@ -1,16 +1,30 @@
+import java.nio.ByteBuffer;
+
 /**
  * A token returned by the tokenizer
  */
 public class CMMToken {
   public int line = -1, column = -1, type = 0;
-  public String name, value;
+  public String name;
+  public double number; // the value of a number token, parsed as it is lexed
+  public String string; // the value of a string token, unquoted and unescaped as it is lexed
+  public int symbol = -1; // the symbol an id token was interned as
+  private String value;
+  private char[] text; private ByteBuffer bytes; private int offset, length; // slice of the source backing value until it is read
   public CMMToken (int t, String n, String v, int l, int c) { type=t; name=n; value=v; line=l; column=c; }
+  public CMMToken (int t, String n, char[] txt, int o, int len, int l, int c) { type=t; name=n; text=txt; offset=o; length=len; line=l; column=c; }
+  public CMMToken (int t, String n, ByteBuffer b, int o, int len, int l, int c) { type=t; name=n; bytes=b; offset=o; length=len; line=l; column=c; }
   public CMMToken (int t, String n, String v, int l) { type=t; name=n; value=v; line=l; }
   public CMMToken (int t, String n, String v) { type=t; name=n; value=v; }
   public CMMToken (String n, String v, int l, int c) { name=n; value=v; line=l; column=c; }
   public CMMToken (String n, String v, int l) { name=n; value=v; line=l; }
   public CMMToken (String n, String v) { name=n; value=v; }
   public CMMToken (String n) { name=n; }
-  public String toString() { return (line != -1 ? "(" + line + ") " : "") + name + (value != null ? " => " + value : ""); }
+  public String getValue() {
+    if (text != null) { value = new String(text, offset, length); text = null; }
+    else if (bytes != null) { value = CMMTokenizer.decode(bytes, offset, length); bytes = null; }
+    return value;
+  }
+  public String toString() { return (line != -1 ? "(" + line + ") " : "") + name + (getValue() != null ? " => " + getValue() : ""); }
   public boolean is (String str) { return str.equals(name); }
 } // end CMMToken
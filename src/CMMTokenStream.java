@@ -0,0 +1,107 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * A whole input's tokens held in parallel arrays, as CMMTokenizer.tokenizeAll()
+ * produces them.  Token i is described by kind(i), start(i), length(i), line(i)
+ * and column(i); its text only becomes a String when value(i) is called.  The
+ * last token is always the eof token.
+ */
+public class CMMTokenStream {
+  private int[] kind, start, length, line, column;
+  private int size = 0;
+
+  // the source the offsets point into
+  private char[] text;
+  private ByteBuffer bytes;
+
+  // where symbol(i) interns identifiers
+  private CMMSymbolTable symbols;
+
+  CMMTokenStream() {
+    int capacity = 1024;
+    kind = new int[capacity]; start = new int[capacity]; length = new int[capacity];
+    line = new int[capacity]; column = new int[capacity];
+  } // end constructor
+
+  void add(int k, int s, int len, int l, int c) {
+    if (size == kind.length) grow(size * 2);
+    kind[size] = k; start[size] = s; length[size] = len; line[size] = l; column[size] = c;
+    size++;
+  }
+
+  /** Appends tokens [from, to) of other, moving them down lineOffset lines. */
+  void addAll(CMMTokenStream other, int from, int to, int lineOffset) {
+    addMoved(other, from, to, 0, lineOffset, 0);
+  }
+
+  /**
+   * Appends tokens [from, to) of other, moving them startOffset chars on and
+   * lineOffset lines down.  Tokens on the same line as token from also move
+   * columnOffset columns.
+   */
+  void addMoved(CMMTokenStream other, int from, int to, int startOffset, int lineOffset, int columnOffset) {
+    int n = to - from;
+    if (size + n > kind.length) grow(Math.max(size + n, size * 2));
+    System.arraycopy(other.kind, from, kind, size, n); System.arraycopy(other.length, from, length, size, n);
+    System.arraycopy(other.column, from, column, size, n);
+    int firstLine = n > 0 ? other.line[from] : 0;
+    for (int i = 0; i < n; i++) {
+      start[size + i] = other.start[from + i] + startOffset;
+      line[size + i] = other.line[from + i] + lineOffset;
+      if (other.line[from + i] == firstLine) column[size + i] += columnOffset;
+    }
+    size += n;
+  } // end addMoved
+
+  private void grow(int capacity) {
+    kind = Arrays.copyOf(kind, capacity); start = Arrays.copyOf(start, capacity);
+    length = Arrays.copyOf(length, capacity); line = Arrays.copyOf(line, capacity);
+    column = Arrays.copyOf(column, capacity);
+  }
+
+  /** Drops every token from index size on. */
+  void truncate(int size) { this.size = size; }
+
+  void setSource(char[] t) { text = t; bytes = null; }
+  void setSource(ByteBuffer b) { bytes = b; text = null; }
+  void setSymbolTable(CMMSymbolTable s) { symbols = s; }
+  char[] text() { return text; }
+  ByteBuffer bytes() { return bytes; }
+
+  public int size() { return size; }
+  public int kind(int i) { return kind[i]; }
+  public int start(int i) { return start[i]; }
+  public int length(int i) { return length[i]; }
+  public int line(int i) { return line[i]; }
+  public int column(int i) { return column[i]; }
+  public String name(int i) { return CMMTokenizer.tokenName(kind[i]); }
+
+  /** The table symbol(i) interns identifiers in: the tokenizer's, or one of the stream's own. */
+  public CMMSymbolTable getSymbolTable() {
+    if (symbols == null) symbols = new CMMSymbolTable();
+    return symbols;
+  }
+
+  /**
+   * The symbol of id token i.  Identifiers are interned as they are asked
+   * for rather than while lexing, so chunks lexed in parallel share nothing.
+   */
+  public int symbol(int i) {
+    if (bytes != null) return getSymbolTable().intern(bytes, start[i], length[i]);
+    return getSymbolTable().intern(text, start[i], length[i]);
+  }
+
+  /** The value of number token i, parsed straight from the source text. */
+  public double number(int i) { return CMMTokenizer.parseNumber(text, bytes, start[i], length[i]); }
+
+  /** The value of string token i, unquoted and unescaped straight from the source text. */
+  public String string(int i) { return CMMTokenizer.decodeString(text, bytes, start[i], length[i]); }
+
+  public String value(int i) {
+    if (kind[i] == CMMTokenizer.ID_TOKEN) return getSymbolTable().name(symbol(i));
+    if (bytes != null) return CMMTokenizer.decode(bytes, start[i], length[i]);
+    return new String(text, start[i], length[i]);
+  }
+
+} // end CMMTokenStream
@@ -1,1165 +1,793 @@
 import java.io.*;
-import java.util.Hashtable;
-import java.util.Vector;
-import java.util.Stack;
-import java.util.ListIterator;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 
 public class CMMTokenizer implements CMMiTokenizer {
 
-  public static final int ELSIF_TOKEN = 1; // elsif
-  public static final int NE_TOKEN = 2; // != | <>
-  public static final int PLUS_TOKEN = 3; // \+
-  public static final int MOD_TOKEN = 4; // %
-  public static final int MINUS_TOKEN = 5; // -
-  public static final int GT_TOKEN = 6; // >
-  public static final int LISTSEP_TOKEN = 7; // ,
-  public static final int DO_TOKEN = 8; // do
-  public static final int STRING_TOKEN = 9; // "([^"]|\\")*"
-  public static final int GE_TOKEN = 10; // >=
-  public static final int ELSE_TOKEN = 11; // else
-  public static final int STRING_T_TOKEN = 12; // string
-  public static final int NUMBER_T_TOKEN = 13; // number
-  public static final int MULTIPLY_TOKEN = 14; // \*
-  public static final int DIVIDE_TOKEN = 15; // /
-  public static final int GETS_TOKEN = 16; // =
-  public static final int LT_TOKEN = 17; // <
-  public static final int OR_TOKEN = 18; // \|
-  public static final int LPAREN_TOKEN = 19; // \(
-  public static final int WHILE_TOKEN = 20; // while
-  public static final int IF_TOKEN = 21; // if
-  public static final int BOOLEAN_T_TOKEN = 22; // boolean
-  public static final int ID_TOKEN = 23; // :letter: (:digit:|:letter:)*
-  public static final int RPAREN_TOKEN = 24; // \)
-  public static final int LE_TOKEN = 25; // <=
-  public static final int AND_TOKEN = 26; // &
-  public static final int NOT_TOKEN = 27; // !
-  public static final int EQ_TOKEN = 28; // ==
-  public static final int RETURN_TOKEN = 29; // return
-  public static final int EOL_TOKEN = 30; // ;
-  public static final int BE_TOKEN = 31; // }
-  public static final int EXP_TOKEN = 32; // \^
-  public static final int NUMBER_TOKEN = 33; // -? (:float: | :float: [eE] [-\+]? :integer:?)
-  public static final int BB_TOKEN = 34; // {
-  public static final int BOOLEAN_TOKEN = 35; // true | false
+  // token kinds; the values are assigned in CMMTokenizerTables
+  public static final int ELSIF_TOKEN = CMMTokenizerTables.ELSIF_KIND; // elsif
+  public static final int NE_TOKEN = CMMTokenizerTables.NE_KIND; // != | <>
+  public static final int PLUS_TOKEN = CMMTokenizerTables.PLUS_KIND; // \+
+  public static final int MOD_TOKEN = CMMTokenizerTables.MOD_KIND; // %
+  public static final int MINUS_TOKEN = CMMTokenizerTables.MINUS_KIND; // -
+  public static final int GT_TOKEN = CMMTokenizerTables.GT_KIND; // >
+  public static final int LISTSEP_TOKEN = CMMTokenizerTables.LISTSEP_KIND; // ,
+  public static final int DO_TOKEN = CMMTokenizerTables.DO_KIND; // do
+  public static final int STRING_TOKEN = CMMTokenizerTables.STRING_KIND; // "([^"]|\\")*"
+  public static final int GE_TOKEN = CMMTokenizerTables.GE_KIND; // >=
+  public static final int ELSE_TOKEN = CMMTokenizerTables.ELSE_KIND; // else
+  public static final int STRING_T_TOKEN = CMMTokenizerTables.STRING_T_KIND; // string
+  public static final int NUMBER_T_TOKEN = CMMTokenizerTables.NUMBER_T_KIND; // number
+  public static final int MULTIPLY_TOKEN = CMMTokenizerTables.MULTIPLY_KIND; // \*
+  public static final int DIVIDE_TOKEN = CMMTokenizerTables.DIVIDE_KIND; // /
+  public static final int GETS_TOKEN = CMMTokenizerTables.GETS_KIND; // =
+  public static final int LT_TOKEN = CMMTokenizerTables.LT_KIND; // <
+  public static final int OR_TOKEN = CMMTokenizerTables.OR_KIND; // \|
+  public static final int LPAREN_TOKEN = CMMTokenizerTables.LPAREN_KIND; // \(
+  public static final int WHILE_TOKEN = CMMTokenizerTables.WHILE_KIND; // while
+  public static final int IF_TOKEN = CMMTokenizerTables.IF_KIND; // if
+  public static final int BOOLEAN_T_TOKEN = CMMTokenizerTables.BOOLEAN_T_KIND; // boolean
+  public static final int ID_TOKEN = CMMTokenizerTables.ID_KIND; // :letter: (:digit:|:letter:)*
+  public static final int RPAREN_TOKEN = CMMTokenizerTables.RPAREN_KIND; // \)
+  public static final int LE_TOKEN = CMMTokenizerTables.LE_KIND; // <=
+  public static final int AND_TOKEN = CMMTokenizerTables.AND_KIND; // &
+  public static final int NOT_TOKEN = CMMTokenizerTables.NOT_KIND; // !
+  public static final int EQ_TOKEN = CMMTokenizerTables.EQ_KIND; // ==
+  public static final int RETURN_TOKEN = CMMTokenizerTables.RETURN_KIND; // return
+  public static final int EOL_TOKEN = CMMTokenizerTables.EOL_KIND; // ;
+  public static final int BE_TOKEN = CMMTokenizerTables.BE_KIND; // }
+  public static final int EXP_TOKEN = CMMTokenizerTables.EXP_KIND; // \^
+  public static final int NUMBER_TOKEN = CMMTokenizerTables.NUMBER_KIND; // -? (:float: | :float: [eE] [-\+]? :integer:?)
+  public static final int BB_TOKEN = CMMTokenizerTables.BB_KIND; // {
+  public static final int BOOLEAN_TOKEN = CMMTokenizerTables.BOOLEAN_KIND; // true | false
   public static final int EOF_TOKEN = -1;
 
-  private static final char wildcard = 3;
+  // The scanner tables in CMMTokenizerTables are generated from cmm.t by
+  // CMMTokenizerGenerator.  They are static final and never written, so every
+  // tokenizer on every thread shares them.
+  private static final int[] charClass = CMMTokenizerTables.CHAR_CLASS;
+  private static final int[] transitions = CMMTokenizerTables.TRANSITIONS;
+  private static final int[] acceptKind = CMMTokenizerTables.ACCEPT_KIND;
+  private static final String[] tokenNames = CMMTokenizerTables.TOKEN_NAMES;
+  private static final String[] lexemes = CMMTokenizerTables.LEXEMES;
+  private static final String[] keywords = CMMTokenizerTables.KEYWORDS;
+  private static final int[] keywordKinds = CMMTokenizerTables.KEYWORD_KINDS;
+  private static final int[] skipChars = CMMTokenizerTables.SKIP_CHARS;
+  private static final int[] skipLoopChars = CMMTokenizerTables.SKIP_LOOP_CHARS;
+  private static final int[] skipOnly = CMMTokenizerTables.SKIP_ONLY;
+  private static final int SKIP_LOOP_STATE = CMMTokenizerTables.SKIP_LOOP_STATE;
+  private static final int MAX_CLASSED_CHAR = CMMTokenizerTables.MAX_CLASSED_CHAR;
+
+  private Reader input;
+
+  // every char read so far, with \r\n and \r folded to \n; tokens keep a
+  // slice of this instead of copying their text
+  private char[] text = new char[8192];
+  private int textLength = 0;
+  private int pos = 0; // offset in text (or bytes) of the next char to scan
+  private boolean inputDone = false, afterCR = false;
+
+  // UTF-8 source, from a byte array or buffer or mapped from a file; null when
+  // reading from a Reader
+  private ByteBuffer bytes;
+  // the array behind bytes, when it has one, and where bytes[0] is in it
+  private byte[] array;
+  private int arrayOffset;
+
+  // When streaming from a channel, bytes is a fixed window onto the input
+  // that holds the token being scanned and what follows it.  Offsets are
+  // into the window, and tokens copy their text out of it.
+  private ReadableByteChannel channel;
+
+  // position of text[pos] or bytes[pos]: its line, where that line starts, and
+  // how many UTF-8 continuation bytes come before pos on the line (they are not columns)
+  private int line = 1, lineStart = 0, lineContinuations = 0;
+
+  // the token scan() last found: its kind, the one text it can have (if there is
+  // only one), and where it starts
+  private int tokenKind, tokenStart, tokenLine, tokenColumn;
+  private String tokenLexeme;
+
+  // Tokens already read, so pushToken() and reset() can hand them out again.
+  // Token i (counting from 0) is tokenHistory[i & (tokenHistory.length-1)]; the
+  // last tokenHistorySize tokens are kept, and so is every token from the
+  // oldest outstanding mark on, for which the buffer grows.  Tokens before
+  // oldestRetained may have been overwritten, so they stay gone even if the
+  // history size is raised or a mark released afterwards.
+  private CMMToken[] tokenHistory = new CMMToken[32];
+  private int oldestRetained = 0;
+  private int tokensRead = 0; // tokens lexed so far
+  private int nextIndex = 0;  // index of the token nextToken() returns next
+  private int tokenHistorySize = 20;
 
-  private LineNumberReader input;
+  private int[] marks = new int[4];
+  private int numMarks = 0;
 
-  private int currentColumn = 1;
+  // identifiers are interned here as they are lexed
+  private CMMSymbolTable symbols = new CMMSymbolTable();
 
-  private Hashtable<Integer, Hashtable<Character, Integer>> DFA = new Hashtable<Integer, Hashtable<Character, Integer>>();
+  public CMMTokenizer (Reader reader) {
+    input = reader;
+  } // end constructor
 
-  private Hashtable<Integer, String> accepting = new Hashtable<Integer, String>();
+  /**
+   * Tokenizes a UTF-8 file by mapping it into memory and scanning its bytes in
+   * place, which avoids decoding and copying large inputs through a Reader.
+   */
+  public CMMTokenizer (Path path) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      if (channel.size() > Integer.MAX_VALUE) throw new IOException(path + " is too large to map");
+      bytes = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } finally {
+      channel.close();
+    }
+  } // end constructor
 
-  private Vector<CMMToken> tokenHistory = new Vector<CMMToken>();
-  private ListIterator<CMMToken> tokenHistoryIT = tokenHistory.listIterator();
-  private int tokenHistorySize = 20;
+  /**
+   * Tokenizes text[from..to) as a complete input, starting a token at from on
+   * the given line; from must be lineStart plus the column's offset.  Offsets
+   * and columns stay relative to the whole text.
+   */
+  CMMTokenizer (char[] text, int from, int to, int line, int lineStart) {
+    this.text = text;
+    textLength = to;
+    inputDone = true;
+    pos = from;
+    this.line = line;
+    this.lineStart = lineStart;
+  } // end constructor
 
-  private Stack<Integer> pushedChars = new Stack<Integer>();
+  /**
+   * Tokenizes UTF-8 (or plain ASCII) bytes without decoding them to chars.
+   * Only tokens that hold non-ASCII bytes are decoded, when their value is read.
+   */
+  public CMMTokenizer (byte[] source) {
+    bytes = ByteBuffer.wrap(source);
+    array = source;
+  } // end constructor
 
-  public CMMTokenizer (Reader reader) {
-    input = new LineNumberReader(reader);
-    input.setLineNumber(1); //start at one
-    buildDFA();
+  /** Tokenizes the remaining bytes of a UTF-8 buffer, as CMMTokenizer(byte[]) does. */
+  public CMMTokenizer (ByteBuffer source) {
+    bytes = source.slice();
+    if (bytes.hasArray()) { array = bytes.array(); arrayOffset = bytes.arrayOffset(); }
+  } // end constructor
+
+  /**
+   * Tokenizes UTF-8 read from a channel through a window of bufferSize bytes,
+   * which is reused as the input moves through it, so memory use does not
+   * depend on the length of the input.  The window only grows for a token
+   * too long to fit in half of it; skipped text such as a comment never
+   * needs to fit.
+   */
+  public CMMTokenizer (ReadableByteChannel channel, int bufferSize) {
+    this.channel = channel;
+    array = new byte[Math.max(bufferSize, 16)];
+    bytes = ByteBuffer.wrap(array);
+    bytes.limit(0);
   } // end constructor
 
+  public CMMTokenizer (ReadableByteChannel channel) {
+    this(channel, 1 << 16);
+  } // end constructor
+
+  /** Tokenizes bytes[from..to) the same way. */
+  CMMTokenizer (ByteBuffer bytes, int from, int to, int line, int lineStart) {
+    this.bytes = bytes.duplicate();
+    this.bytes.limit(to);
+    if (bytes.hasArray()) { array = bytes.array(); arrayOffset = bytes.arrayOffset(); }
+    pos = from;
+    this.line = line;
+    this.lineStart = lineStart;
+  } // end constructor
+
+  /** Reads the rest of a Reader's input into text, so it can be split up. */
+  void readAll() throws CMMTokenizerException {
+    while (fill()) { }
+  }
+
+  char[] text() { return text; }
+  int textLength() { return textLength; }
+  ByteBuffer bytes() { return bytes; }
+
   public void setTokenHistorySize(int size) { tokenHistorySize = size; }
   public int getTokenHistorySize() { return tokenHistorySize; }
 
-  public int getLineNumber() { return input.getLineNumber(); }
+  public int getLineNumber() { return line; }
 
   public CMMToken nextToken() throws CMMTokenizerException {
-    if (tokenHistoryIT.hasNext()) {
-      return tokenHistoryIT.next();
-    } else {
-      CMMToken token = _nextToken();
-      tokenHistoryIT.add(token);
-      if (tokenHistory.size() > tokenHistorySize) {
-        tokenHistory.remove(0);
-        tokenHistoryIT = tokenHistory.listIterator(tokenHistorySize);
+    if (nextIndex < tokensRead) return tokenHistory[nextIndex++ & (tokenHistory.length - 1)];
+
+    CMMToken token = _nextToken();
+    oldestRetained = Math.max(oldestRetained, oldestKept(tokensRead + 1));
+    if (tokensRead + 1 - oldestRetained > tokenHistory.length) growHistory(oldestRetained);
+    tokenHistory[tokensRead++ & (tokenHistory.length - 1)] = token;
+    nextIndex = tokensRead;
+    return token;
+  } // end nextToken
+
+  /**
+   * Marks the position of the next token.  Every token from here on stays
+   * available to reset() until the mark is released, however many there are.
+   */
+  public int mark() {
+    if (numMarks == marks.length) marks = Arrays.copyOf(marks, numMarks * 2);
+    marks[numMarks++] = nextIndex;
+    return nextIndex;
+  } // end mark
+
+  /** Backs up (or skips forward) so the next token is the one after mark. */
+  public void reset(int mark) throws CMMTokenizerException {
+    if (mark < oldestAvailable() || mark > tokensRead) {
+      throw new CMMTokenizerException("Token mark " + mark + " is no longer available.");
+    }
+    nextIndex = mark;
+  } // end reset
+
+  /** Drops a mark, so the tokens it kept can be discarded. */
+  public void release(int mark) {
+    for (int m = numMarks - 1; m >= 0; m--) {
+      if (marks[m] == mark) {
+        marks[m] = marks[--numMarks];
+        return;
       }
-      return token;
     }
-  } // end nextToken
+  } // end release
+
+  // index of the oldest token that must be kept once count tokens have been read
+  private int oldestKept(int count) {
+    int oldest = Math.max(0, count - tokenHistorySize);
+    for (int m = 0; m < numMarks; m++) oldest = Math.min(oldest, marks[m]);
+    return oldest;
+  } // end oldestKept
+
+  // index of the oldest token that pushToken() and reset() may go back to
+  private int oldestAvailable() { return Math.max(oldestRetained, oldestKept(tokensRead)); }
+
+  private void growHistory(int oldest) {
+    int capacity = tokenHistory.length * 2;
+    while (tokensRead + 1 - oldest > capacity) capacity *= 2;
+    CMMToken[] grown = new CMMToken[capacity];
+    for (int i = oldest; i < tokensRead; i++) grown[i & (capacity - 1)] = tokenHistory[i & (tokenHistory.length - 1)];
+    tokenHistory = grown;
+  } // end growHistory
 
   private CMMToken _nextToken() throws CMMTokenizerException {
-    int c;
-    String value;
-    int curState;
+    if (scan() == EOF_TOKEN) return new CMMToken(EOF_TOKEN, "eof", "", tokenLine, tokenColumn);
+    return createToken(tokenKind, tokenLexeme, tokenStart, pos - tokenStart, tokenLine, tokenColumn);
+  } // end _nextToken
 
-  tokenLoop:
+  /** The table this tokenizer interns identifiers in. */
+  public CMMSymbolTable getSymbolTable() { return symbols; }
+
+  /**
+   * Interns identifiers in symbols from now on, so that the files of one
+   * compilation can share a table.
+   */
+  public void setSymbolTable(CMMSymbolTable symbols) { this.symbols = symbols; }
+
+  /**
+   * Lexes the rest of the input into a CMMTokenStream that ends with the eof
+   * token.  No CMMToken is created along the way.
+   */
+  public CMMTokenStream tokenizeAll() throws CMMTokenizerException {
+    CMMTokenStream stream = new CMMTokenStream();
+    tokenizeInto(stream);
+    return stream;
+  } // end tokenizeAll
+
+  /**
+   * Adds the rest of the input's tokens to stream.  If a token cannot be lexed
+   * the stream keeps every token before it.
+   */
+  void tokenizeInto(CMMTokenStream stream) throws CMMTokenizerException {
+    if (channel != null) throw new UnsupportedOperationException("A streaming tokenizer does not keep its input for a token stream");
+    try {
+      while (scanInto(stream) != EOF_TOKEN) { }
+    } finally {
+      // fill() may have moved text while scanning
+      if (bytes != null) stream.setSource(bytes); else stream.setSource(text);
+      stream.setSymbolTable(symbols);
+    }
+  } // end tokenizeInto
+
+  /** Adds the next token to stream and returns its kind. */
+  int scanInto(CMMTokenStream stream) throws CMMTokenizerException {
+    int kind = scan();
+    stream.add(kind, tokenStart, pos - tokenStart, tokenLine, tokenColumn);
+    return kind;
+  } // end scanInto
+
+  /**
+   * Lexes previous's source with removed chars at offset replaced by inserted,
+   * rescanning only around the edit.  Scanning restarts at the last token that
+   * ended before the edit and stops once a token starts where one started
+   * before, past the edit; previous's tokens from there on are reused with
+   * their positions moved.  Offsets are chars, or bytes for byte input.
+   */
+  public static CMMTokenStream relex(CMMTokenStream previous, int offset, int removed, String inserted) throws CMMTokenizerException {
+    int n = previous.size();
+    int oldLength = previous.start(n - 1); // where the eof token is
+    int editEnd = offset + removed;
+    if (offset < 0 || removed < 0 || editEnd > oldLength) {
+      throw new IllegalArgumentException("Edit [" + offset + ", " + editEnd + ") is outside the source (length " + oldLength + ")");
+    }
+
+    CMMTokenizer t;
+    int delta;
+    if (previous.bytes() != null) {
+      ByteBuffer old = previous.bytes();
+      byte[] ins = inserted.getBytes(StandardCharsets.UTF_8);
+      byte[] b = new byte[oldLength - removed + ins.length];
+      old.get(0, b, 0, offset);
+      System.arraycopy(ins, 0, b, offset, ins.length);
+      old.get(editEnd, b, offset + ins.length, oldLength - editEnd);
+      delta = ins.length - removed;
+      t = new CMMTokenizer(ByteBuffer.wrap(b), 0, b.length, 1, 0);
+    } else {
+      char[] old = previous.text();
+      // fold line breaks the way fill() does
+      char[] ins = inserted.replace("\r\n", "\n").replace('\r', '\n').toCharArray();
+      char[] c = new char[oldLength - removed + ins.length];
+      System.arraycopy(old, 0, c, 0, offset);
+      System.arraycopy(ins, 0, c, offset, ins.length);
+      System.arraycopy(old, editEnd, c, offset + ins.length, oldLength - editEnd);
+      delta = ins.length - removed;
+      t = new CMMTokenizer(c, 0, c.length, 1, 0);
+    }
+
+    // tokens [0, keep) ended before the edit; the last of them is rescanned,
+    // since the line it ends on is only known from its start
+    int lo = 0, hi = n - 1;
+    while (lo < hi) {
+      int mid = (lo + hi) >>> 1;
+      if (previous.start(mid) + previous.length(mid) < offset) lo = mid + 1; else hi = mid;
+    }
+    int keep = lo;
+
+    CMMTokenStream out = new CMMTokenStream();
+    if (keep > 0) {
+      int restart = previous.start(keep - 1);
+      out.addAll(previous, 0, keep - 1, 0);
+      t.pos = restart;
+      t.line = previous.line(keep - 1);
+      t.lineStart = restart - previous.column(keep - 1) + 1;
+    }
+
+    int j = keep;
     while (true) {
-      int lineNumber = getLineNumber();
-      int column = currentColumn;
-      curState = 0;
-      value = "";
-
-      while ( (c=getChar()) != -1 ) { // read in a character (-1 indicates EOF)
-        if (transition(curState, (char)c) == -1) break;
-        value += (char)c;
-        curState = transition(curState, (char)c);
+      int before = out.size();
+      int kind = t.scanInto(out);
+      if (kind == EOF_TOKEN) break;
+
+      int start = out.start(before);
+      while (j < n && (previous.start(j) < editEnd || previous.start(j) + delta < start)) j++;
+      if (j < n && previous.start(j) + delta == start) {
+        // the text from here on is unchanged, and so are its tokens
+        int lineOffset = out.line(before) - previous.line(j);
+        int columnOffset = out.column(before) - previous.column(j);
+        out.truncate(before);
+        out.addMoved(previous, j, n, delta, lineOffset, columnOffset);
+        break;
       }
+    }
+    if (t.bytes != null) out.setSource(t.bytes); else out.setSource(t.text);
+    out.setSymbolTable(previous.getSymbolTable());
+    return out;
+  } // end relex
+
+  /**
+   * Scans past the next token that is not skipped and returns its kind, or
+   * EOF_TOKEN at the end of the input.  The token ends at pos; where it starts
+   * and the state that accepted it are left in the token* fields.
+   */
+  private int scan() throws CMMTokenizerException {
+    if (bytes != null) return scanBytes();
 
-      if (c == -1 && value.isEmpty()) {
-        return createToken("eof", "", lineNumber, column);
-      } else if (accepting.containsKey(curState)) {
-        pushChar(c);
-        if (accepting.get(curState).equals("skip")) continue tokenLoop;
-        return createToken(accepting.get(curState), value, lineNumber, column);
-      } else {
-        value += (char)c;
-        throw new CMMNoSuchTokenException(value, lineNumber, column);
+    while (true) {
+      // whitespace is skipped a run at a time, not a token at a time
+      while (pos < textLength || fill()) {
+        char c = text[pos];
+        if (c > MAX_CLASSED_CHAR || skipChars[c] == 0) break;
+        if (c == '\n') { line++; lineStart = pos + 1; }
+        pos++;
       }
-    }
-  } // end _nextToken
 
-  public void pushToken() throws CMMTokenizerException {
-    if (tokenHistoryIT.hasPrevious()) {
-      tokenHistoryIT.previous();
-    } else {
-      throw new CMMTokenizerException("Token push limit (" + tokenHistorySize + ") exceeded.");
+      int start = pos, p = pos;
+      int curState = 0;
+      boolean stopped = false;
+
+      while (p < textLength || fill()) {
+        int nextState = transition(curState, text[p]);
+        if (nextState == -1) { stopped = true; break; }
+        curState = nextState;
+        p++;
+        if (curState == SKIP_LOOP_STATE) {
+          // a comment body: run to its end without the DFA
+          while (p < textLength || fill()) {
+            char c = text[p];
+            if (c > MAX_CLASSED_CHAR || skipLoopChars[c] == 0) break;
+            p++;
+          }
+        }
+      }
+
+      int lineNumber = line;
+      int column = start - lineStart + 1;
+
+      if (p == start && !stopped) {
+        setToken(EOF_TOKEN, null, start, lineNumber, column);
+        return EOF_TOKEN;
+      } else if (acceptKind[curState] != CMMTokenizerTables.NOT_ACCEPTING) {
+        for (int i = start; i < p; i++) {
+          if (text[i] == '\n') { line++; lineStart = i + 1; }
+        }
+        pos = p;
+        if (acceptKind[curState] == CMMTokenizerTables.SKIP_KIND) continue;
+        return accept(curState, start, lineNumber, column);
+      } else {
+        throw new CMMNoSuchTokenException(new String(text, start, (stopped ? p + 1 : p) - start), lineNumber, column);
+      }
     }
-  } // end pushToken
+  } // end scan
 
-  private int transition(Integer state, Character c) {
-    Integer nextState = DFA.get(state).get(c);
+  private int scanBytes() throws CMMTokenizerException {
+    int limit = bytes.limit();
+    // read a heap buffer's array directly; a mapped one has none
+    byte[] a = array;
+    int base = arrayOffset;
 
-    if (nextState == null) {
-      nextState = DFA.get(state).get(wildcard);
+    while (true) {
+      // whitespace is skipped a run at a time, not a token at a time
+      while (true) {
+        if (limit - pos < 4 && channel != null && !inputDone) {
+          refill();
+          limit = bytes.limit(); a = array;
+        }
+        if (pos >= limit) break;
+        int b = a != null ? a[base + pos] : bytes.get(pos);
+        if (b < 0 || skipChars[b] == 0) break;
+        if (b == '\n' || (b == '\r' && (pos + 1 == limit || byteAt(pos + 1) != '\n'))) {
+          line++;
+          lineStart = pos + 1;
+          lineContinuations = 0;
+        }
+        pos++;
+      }
 
-      if (nextState == null) {
-        nextState = -1;
+      int start = pos, p = pos;
+      int curState = 0;
+      int width = 0;
+      boolean stopped = false, slid = false;
+      int lineNumber = line;
+      int column = start - lineStart - lineContinuations + 1;
+
+      while (true) {
+        if (limit - p < 4 && channel != null && !inputDone) {
+          if (skipOnly[curState] != 0 && p > start && byteAt(p - 1) != '\r') {
+            // Nothing of a token that can only be skipped is kept, so the
+            // window moves past what has been scanned of it instead of
+            // growing to hold a whole comment.  (A \r stays, in case a \n
+            // follows it.)  Should it fail after all, its text is reported
+            // from here on.
+            countLines(start, p, limit);
+            start = pos = p;
+            slid = true;
+          }
+          // keep the next char whole in the window: refill moves pos to the front
+          int shift = pos;
+          refill();
+          start -= shift; p -= shift;
+          limit = bytes.limit(); a = array;
+        }
+        if (p >= limit) break;
+        int c = a != null ? a[base + p] : bytes.get(p);
+        width = 1;
+        if (c >= 0) { // ASCII: one byte, and always in CHAR_CLASS
+          int nextState = transitions[curState * CMMTokenizerTables.NUM_CLASSES + charClass[c]];
+          if (nextState == -1) { stopped = true; break; }
+          curState = nextState;
+          p++;
+          if (curState == SKIP_LOOP_STATE) {
+            // a comment body: run through its ASCII without the DFA, up to
+            // where a refill or a multi-byte char needs the loop above
+            int end = channel != null && !inputDone ? limit - 4 : limit;
+            while (p < end) {
+              int b = a != null ? a[base + p] : bytes.get(p);
+              if (b < 0 || skipLoopChars[b] == 0) break;
+              p++;
+            }
+          }
+          continue;
+        }
+        // multi-byte UTF-8 sequence
+        int decoded = decodeUTF8(p, limit);
+        c = decoded & 0xffffff;
+        width = decoded >>> 24;
+        int nextState = transition(curState, c);
+        if (nextState == -1) { stopped = true; break; }
+        curState = nextState;
+        p += width;
       }
 
+      if (p == start && !stopped && !slid) {
+        setToken(EOF_TOKEN, null, start, lineNumber, column);
+        return EOF_TOKEN;
+      } else if (acceptKind[curState] != CMMTokenizerTables.NOT_ACCEPTING) {
+        countLines(start, p, limit);
+        pos = p;
+        if (acceptKind[curState] == CMMTokenizerTables.SKIP_KIND) continue;
+        return accept(curState, start, lineNumber, column);
+      } else {
+        throw new CMMNoSuchTokenException(decode(bytes, start, (stopped ? p + width : p) - start), lineNumber, column);
+      }
     }
+  } // end scanBytes
+
+  /**
+   * Moves the window's bytes from pos on to its front and reads more input
+   * after them, growing the window if it would still be more than half full.
+   */
+  private void refill() throws CMMTokenizerException {
+    int kept = bytes.limit() - pos;
+    byte[] window = kept > array.length / 2 ? new byte[array.length * 2] : array;
+    System.arraycopy(array, pos, window, 0, kept);
+    array = window;
+    lineStart -= pos;
+    pos = 0;
+
+    bytes = ByteBuffer.wrap(array);
+    bytes.position(kept);
+    try {
+      int n;
+      do {
+        n = channel.read(bytes);
+      } while (n == 0);
+      if (n == -1) inputDone = true;
+    } catch (IOException ex) {
+      throw new CMMTokenizerException(ex);
+    }
+    bytes.flip();
+  } // end refill
 
-    return nextState;
-  } // end transition
+  private void setToken(int kind, String lexeme, int start, int lineNumber, int column) {
+    tokenKind = kind; tokenLexeme = lexeme; tokenStart = start; tokenLine = lineNumber; tokenColumn = column;
+  }
 
-  private void pushChar(Integer c) {
-    pushedChars.push(c);
-    if (c == 10 || (c == 13 && pushedChars.peek() != 10)) {
-      input.setLineNumber(input.getLineNumber()-1);
-      currentColumn = 999999999; // don't know the previous line's length, so set to a bajillion
-    } else {
-      currentColumn--;
+  /**
+   * Records the token from start to pos that state accepted and returns its
+   * kind.  Keywords are scanned as identifiers and told apart here.
+   */
+  private int accept(int state, int start, int lineNumber, int column) {
+    int kind = acceptKind[state];
+    String lexeme = lexemes[state];
+    if (kind == CMMTokenizerTables.KEYWORD_OWNER_KIND) {
+      int h = keyword(start, pos);
+      if (h != -1) { kind = keywordKinds[h]; lexeme = keywords[h]; }
     }
-  }
+    setToken(kind, lexeme, start, lineNumber, column);
+    return kind;
+  } // end accept
+
+  // slot in keywords of the word from start to end, or -1 if it is not a keyword
+  private int keyword(int start, int end) {
+    int length = end - start;
+    int h = CMMTokenizerTables.keywordHash(charAt(start), charAt(start + length / 2), charAt(end - 1), length);
+    String word = keywords[h];
+    if (word == null || word.length() != length) return -1;
+    for (int i = 0; i < length; i++) {
+      if (charAt(start + i) != word.charAt(i)) return -1;
+    }
+    return h;
+  } // end keyword
+
+  private int charAt(int i) { return bytes != null ? byteAt(i) : text[i]; }
+
+  private int byteAt(int i) { return array != null ? array[arrayOffset + i] : bytes.get(i); }
+
+  /**
+   * Decodes the UTF-8 sequence starting at bytes[p].  Returns the code point
+   * in the low 24 bits and the sequence length in the high 8; malformed input
+   * decodes to U+FFFD, which no token accepts.
+   */
+  private int decodeUTF8(int p, int limit) {
+    int b = bytes.get(p) & 0xff;
+    int width = b >= 0xf0 ? 4 : b >= 0xe0 ? 3 : b >= 0xc0 ? 2 : 1;
+    if (width == 1 || p + width > limit) return (1 << 24) | 0xfffd;
+    int cp = b & (0x3f >> (width - 1));
+    for (int i = 1; i < width; i++) {
+      int next = bytes.get(p + i) & 0xff;
+      if ((next & 0xc0) != 0x80) return (1 << 24) | 0xfffd;
+      cp = (cp << 6) | (next & 0x3f);
+    }
+    return (width << 24) | cp;
+  } // end decodeUTF8
+
+  // \r\n, \r and \n each end a line, as fill() folds them for a Reader
+  private void countLines(int from, int to, int limit) {
+    for (int i = from; i < to; i++) {
+      int b = byteAt(i);
+      if (b >= 0 && b > '\r') continue;
+      if (b == '\n' || (b == '\r' && (i + 1 == limit || byteAt(i + 1) != '\n'))) {
+        line++;
+        lineStart = i + 1;
+        lineContinuations = 0;
+      } else if ((b & 0xc0) == 0x80) {
+        lineContinuations++;
+      }
+    }
+  } // end countLines
+
+  static String decode(ByteBuffer bytes, int offset, int length) {
+    byte[] b = new byte[length];
+    bytes.get(offset, b);
+    boolean ascii = true;
+    for (int i = 0; i < length && ascii; i++) ascii = b[i] >= 0;
+    // ASCII is also Latin-1, which a String takes as it is
+    String s = new String(b, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+    // report line breaks inside a token the way the Reader path does
+    return s.indexOf('\r') == -1 ? s : s.replace("\r\n", "\n").replace('\r', '\n');
+  } // end decode
 
-  private int getChar() throws CMMTokenizerException {
-    int c; int startLine = getLineNumber();
-    if (!pushedChars.empty()) {
-      c = pushedChars.pop();
-      if (c == 10 || (c == 13 && pushedChars.peek() != 10)) input.setLineNumber(input.getLineNumber()+1);
+  public void pushToken() throws CMMTokenizerException {
+    if (nextIndex > oldestAvailable()) {
+      nextIndex--;
     } else {
+      throw new CMMTokenizerException("Token push limit (" + tokenHistorySize + ") exceeded.");
+    }
+  } // end pushToken
+
+  private int transition(int state, int c) {
+    int cls = c <= CMMTokenizerTables.MAX_CLASSED_CHAR ? charClass[c] : CMMTokenizerTables.OTHER_CLASS;
+    return transitions[state * CMMTokenizerTables.NUM_CLASSES + cls];
+  } // end transition
+
+  /**
+   * Reads the next block of input onto the end of text, folding line breaks
+   * to \n.  Returns false once the input is exhausted.
+   */
+  private boolean fill() throws CMMTokenizerException {
+    while (!inputDone) {
+      if (textLength == text.length) text = Arrays.copyOf(text, text.length * 2);
+      int n;
       try {
-        c = input.read();
+        n = input.read(text, textLength, text.length - textLength);
       }
       catch (IOException ex) {
         throw new CMMTokenizerException(ex);
       }
+      if (n == -1) { inputDone = true; break; }
+      int from = textLength, to = textLength;
+      for (int i = from; i < from + n; i++) {
+        char ch = text[i];
+        if (ch == '\n' && afterCR) { afterCR = false; continue; }
+        afterCR = ch == '\r';
+        text[to++] = afterCR ? '\n' : ch;
+      }
+      textLength = to;
+      if (to > from) return true;
+    }
+    return false;
+  } // end fill
+
+  /**
+   * Keywords and punctuation share the one lexeme their kind allows, and
+   * identifiers share the name their symbol was interned under; any other
+   * token points into the source text and only becomes a String if its value
+   * is read.
+   */
+  private CMMToken createToken(int type, String lexeme, int start, int length, int lineNumber, int column) {
+    String name = tokenNames[type];
+    if (lexeme != null) return new CMMToken(type, name, lexeme, lineNumber, column);
+    CMMToken token;
+    if (type == ID_TOKEN) {
+      int symbol = bytes != null ? symbols.intern(bytes, start, length) : symbols.intern(text, start, length);
+      token = new CMMToken(type, name, symbols.name(symbol), lineNumber, column);
+      token.symbol = symbol;
+      return token;
+    }
+    if (channel != null) token = new CMMToken(type, name, decode(bytes, start, length), lineNumber, column);
+    else if (bytes != null) token = new CMMToken(type, name, bytes, start, length, lineNumber, column);
+    else token = new CMMToken(type, name, text, start, length, lineNumber, column);
+    if (type == NUMBER_TOKEN) token.number = parseNumber(text, bytes, start, length);
+    else if (type == STRING_TOKEN) token.string = decodeString(text, bytes, start, length);
+    return token;
+  }
+
+  // 10^0 .. 10^22, the powers of ten a double holds exactly
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+    1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  /**
+   * Parses a number token in place, from bytes if they are not null and from
+   * text otherwise.  A mantissa of at most 53 bits scaled by an exactly
+   * representable power of ten is one correctly rounded multiply or divide;
+   * anything else goes through Double.parseDouble.  An exponent with no
+   * digits, which cmm.t allows, counts as 0.
+   */
+  static double parseNumber(char[] text, ByteBuffer bytes, int start, int length) {
+    int end = start + length, i = start;
+    boolean negative = charAt(text, bytes, i) == '-';
+    if (negative) i++;
+
+    long mantissa = 0;
+    int scale = 0;
+    boolean exact = true;
+    for (; i < end; i++) {
+      int c = charAt(text, bytes, i);
+      if (c == '.') { scale = -1; continue; }
+      if (c == 'e' || c == 'E') break;
+      if (mantissa >= (1L << 53) / 10) exact = false;
+      mantissa = mantissa * 10 + (c - '0');
+      if (scale < 0) scale--;
+    }
+    int exponent = scale < 0 ? scale + 1 : 0;
+
+    if (i < end) { // exponent
+      i++;
+      boolean negativeExponent = false;
+      if (i < end && (charAt(text, bytes, i) == '-' || charAt(text, bytes, i) == '+')) negativeExponent = charAt(text, bytes, i++) == '-';
+      int e = 0;
+      for (; i < end; i++) {
+        if (e > 10000) exact = false; else e = e * 10 + (charAt(text, bytes, i) - '0');
+      }
+      exponent += negativeExponent ? -e : e;
+    }
+
+    if (exact && exponent >= -22 && exponent <= 22) {
+      double value = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+      return negative ? -value : value;
+    }
+
+    String number = bytes != null ? decode(bytes, start, length) : new String(text, start, length);
+    char last = number.charAt(number.length() - 1);
+    if (last == 'e' || last == 'E' || last == '-' || last == '+') number += "0";
+    return Double.parseDouble(number);
+  } // end parseNumber
+
+  // the chars that may follow a backslash in a string literal, and what each pair stands for
+  private static final String ESCAPES = "\"\\'nrtbf";
+  private static final String ESCAPED = "\"\\'\n\r\t\b\f";
+
+  /**
+   * The value of a string token: its text without the quotes, with the
+   * escapes in ESCAPES replaced.  A backslash before any other char is kept.
+   */
+  static String decodeString(char[] text, ByteBuffer bytes, int start, int length) {
+    String body = bytes != null ? decode(bytes, start + 1, length - 2) : new String(text, start + 1, length - 2);
+    int i = body.indexOf('\\');
+    if (i == -1) return body;
+    StringBuilder value = new StringBuilder(body.length()).append(body, 0, i);
+    for (; i < body.length(); i++) {
+      char c = body.charAt(i);
+      int e = c == '\\' && i + 1 < body.length() ? ESCAPES.indexOf(body.charAt(i + 1)) : -1;
+      if (e == -1) value.append(c);
+      else { value.append(ESCAPED.charAt(e)); i++; }
     }
-    if (getLineNumber() > startLine) { currentColumn = 1; } else { currentColumn++; }
-    return c;
-  } //end getChar
-
-  private CMMToken createToken(String name, String value, int lineNumber, int column) {
-    if ( name.equals("elsif") ) return new CMMToken(ELSIF_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("ne") ) return new CMMToken(NE_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("plus") ) return new CMMToken(PLUS_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("mod") ) return new CMMToken(MOD_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("minus") ) return new CMMToken(MINUS_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("gt") ) return new CMMToken(GT_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("listsep") ) return new CMMToken(LISTSEP_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("do") ) return new CMMToken(DO_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("string") ) return new CMMToken(STRING_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("ge") ) return new CMMToken(GE_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("else") ) return new CMMToken(ELSE_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("string_t") ) return new CMMToken(STRING_T_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("number_t") ) return new CMMToken(NUMBER_T_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("multiply") ) return new CMMToken(MULTIPLY_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("divide") ) return new CMMToken(DIVIDE_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("gets") ) return new CMMToken(GETS_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("lt") ) return new CMMToken(LT_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("or") ) return new CMMToken(OR_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("lparen") ) return new CMMToken(LPAREN_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("while") ) return new CMMToken(WHILE_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("if") ) return new CMMToken(IF_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("boolean_t") ) return new CMMToken(BOOLEAN_T_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("id") ) return new CMMToken(ID_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("rparen") ) return new CMMToken(RPAREN_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("le") ) return new CMMToken(LE_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("and") ) return new CMMToken(AND_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("not") ) return new CMMToken(NOT_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("eq") ) return new CMMToken(EQ_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("return") ) return new CMMToken(RETURN_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("eol") ) return new CMMToken(EOL_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("be") ) return new CMMToken(BE_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("exp") ) return new CMMToken(EXP_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("number") ) return new CMMToken(NUMBER_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("bb") ) return new CMMToken(BB_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("boolean") ) return new CMMToken(BOOLEAN_TOKEN, name, value, lineNumber, column);
-    if ( name.equals("eof") ) return new CMMToken(EOF_TOKEN, name, value, lineNumber, column);
-    throw new RuntimeException("Cannot create token, unknown token name: " + name);
+    return value.toString();
+  } // end decodeString
+
+  private static int charAt(char[] text, ByteBuffer bytes, int i) { return bytes != null ? bytes.get(i) : text[i]; }
+
+  /** Returns the name of the token kind, "eof" for EOF_TOKEN. */
+  public static String tokenName(int kind) {
+    return kind == EOF_TOKEN ? "eof" : tokenNames[kind];
   }
 
-  private void buildDFA() {
-    buildState0();
-    buildState1();
-    buildState2();
-    buildState3();
-    buildState4();
-    buildState5();
-    buildState6();
-    buildState7();
-    buildState8();
-    buildState9();
-    buildState10();
-    buildState11();
-    buildState12();
-    buildState13();
-    buildState14();
-    buildState15();
-    buildState16();
-    buildState17();
-    buildState18();
-    buildState19();
-    buildState20();
-    buildState21();
-    buildState22();
-    buildState23();
-    buildState24();
-    buildState25();
-    buildState26();
-    buildState27();
-    buildState28();
-    buildState29();
-    buildState30();
-    buildState31();
-    buildState32();
-    buildState33();
-    buildState34();
-    buildState35();
-    buildState36();
-    buildState37();
-    buildState38();
-    buildState39();
-    buildState40();
-    buildState41();
-    buildState42();
-    buildState43();
-    buildState44();
-    buildState45();
-    buildState46();
-    buildState47();
-    buildState48();
-    buildState49();
-    buildState50();
-    buildState51();
-    buildState52();
-    buildState53();
-    buildState54();
-    buildState55();
-    buildState56();
-    buildState57();
-    buildState58();
-    buildState59();
-    buildState60();
-    buildState61();
-    buildState62();
-    buildState63();
-    buildState64();
-    buildState65();
-    buildState66();
-    buildState67();
-    buildState68();
-    buildState69();
-    buildState70();
-    buildState71();
-    buildState72();
-    buildState73();
-    buildState74();
-    buildState75();
-    buildState76();
-    buildState77();
-    buildState78();
-    buildState79();
-    buildState80();
-    buildState81();
-    buildState82();
-    buildState83();
-    buildState84();
-    buildState85();
-    buildState86();
-    buildState87();
-    buildState88();
-    buildState89();
-    buildState90();
-    buildState91();
-    buildState92();
-    buildState93();
-    buildState94();
-    buildState95();
-
-    accepting.put(95, "elsif");
-    accepting.put(94, "id");
-    accepting.put(93, "else");
-    accepting.put(92, "id");
-    accepting.put(91, "id");
-    accepting.put(90, "ge");
-    accepting.put(89, "do");
-    accepting.put(88, "string");
-    accepting.put(87, "string");
-    accepting.put(84, "string_t");
-    accepting.put(83, "id");
-    accepting.put(82, "id");
-    accepting.put(81, "id");
-    accepting.put(80, "id");
-    accepting.put(79, "number_t");
-    accepting.put(78, "id");
-    accepting.put(77, "id");
-    accepting.put(76, "id");
-    accepting.put(75, "id");
-    accepting.put(74, "skip");
-    accepting.put(73, "skip");
-    accepting.put(72, "eq");
-    accepting.put(71, "le");
-    accepting.put(70, "ne");
-    accepting.put(69, "while");
-    accepting.put(68, "id");
-    accepting.put(67, "id");
-    accepting.put(66, "id");
-    accepting.put(65, "if");
-    accepting.put(64, "boolean_t");
-    accepting.put(63, "id");
-    accepting.put(62, "id");
-    accepting.put(61, "id");
-    accepting.put(60, "id");
-    accepting.put(59, "id");
-    accepting.put(58, "boolean");
-    accepting.put(57, "id");
-    accepting.put(56, "id");
-    accepting.put(55, "id");
-    accepting.put(54, "boolean");
-    accepting.put(53, "id");
-    accepting.put(52, "id");
-    accepting.put(51, "return");
-    accepting.put(50, "id");
-    accepting.put(49, "id");
-    accepting.put(48, "id");
-    accepting.put(47, "id");
-    accepting.put(46, "id");
-    accepting.put(45, "id");
-    accepting.put(44, "ne");
-    accepting.put(43, "number");
-    accepting.put(42, "number");
-    accepting.put(40, "number");
-    accepting.put(39, "number");
-    accepting.put(38, "number");
-    accepting.put(37, "number");
-    accepting.put(36, "number");
-    accepting.put(34, "number");
-    accepting.put(33, "skip");
-    accepting.put(32, "number");
-    accepting.put(30, "bb");
-    accepting.put(29, "exp");
-    accepting.put(28, "be");
-    accepting.put(27, "eol");
-    accepting.put(26, "not");
-    accepting.put(25, "and");
-    accepting.put(24, "rparen");
-    accepting.put(23, "id");
-    accepting.put(22, "id");
-    accepting.put(21, "id");
-    accepting.put(20, "id");
-    accepting.put(19, "id");
-    accepting.put(18, "id");
-    accepting.put(17, "id");
-    accepting.put(16, "lparen");
-    accepting.put(15, "or");
-    accepting.put(14, "lt");
-    accepting.put(13, "gets");
-    accepting.put(12, "divide");
-    accepting.put(11, "multiply");
-    accepting.put(10, "id");
-    accepting.put(9, "id");
-    accepting.put(7, "id");
-    accepting.put(6, "listsep");
-    accepting.put(5, "gt");
-    accepting.put(4, "minus");
-    accepting.put(3, "mod");
-    accepting.put(2, "plus");
-    accepting.put(1, "id");
-  } // end buildDFA
-
-  private void buildState0() {
-    char[] tc = {125,124,123,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,94,90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,62,61,60,59,57,56,55,54,53,52,51,50,49,48,47,46,45,44,43,42,41,40,38,37,34,33,32,13,10,9,};
-    int[]  st = {28,15,30,20,20,20,17,20,20,22,9,23,20,20,20,10,20,20,20,20,18,20,20,21,1,7,20,19,20,20,29,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,20,5,13,14,27,32,32,32,32,32,32,32,32,32,32,12,31,4,6,2,11,24,16,25,3,8,26,33,33,33,33,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(0, trans);
-  } // end buildState0
-
-  private void buildState1() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,91,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(1, trans);
-  } // end buildState1
-
-  private void buildState2() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(2, trans);
-  } // end buildState2
-
-  private void buildState3() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(3, trans);
-  } // end buildState3
-
-  private void buildState4() {
-    char[] tc = {57,56,55,54,53,52,51,50,49,48,46,};
-    int[]  st = {32,32,32,32,32,32,32,32,32,32,31,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(4, trans);
-  } // end buildState4
-
-  private void buildState5() {
-    char[] tc = {61,};
-    int[]  st = {90,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(5, trans);
-  } // end buildState5
-
-  private void buildState6() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(6, trans);
-  } // end buildState6
-
-  private void buildState7() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,89,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(7, trans);
-  } // end buildState7
-
-  private void buildState8() {
-    char[] tc = {255,254,253,252,251,250,249,248,247,246,245,244,243,242,241,240,239,238,237,236,235,234,233,232,231,230,229,228,227,226,225,224,223,222,221,220,219,218,217,216,215,214,213,212,211,210,209,208,207,206,205,204,203,202,201,200,199,198,197,196,195,194,193,192,191,190,189,188,187,186,185,184,183,182,181,180,179,178,177,176,175,174,173,172,171,170,169,168,167,166,165,164,163,162,161,160,159,158,157,156,155,154,153,152,151,150,149,148,147,146,145,144,143,142,141,140,139,138,137,136,135,134,133,132,131,130,129,128,127,126,125,124,123,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,96,95,94,93,92,91,90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,64,63,62,61,60,59,58,57,56,55,54,53,52,51,50,49,48,47,46,45,44,43,42,41,40,39,38,37,36,35,34,33,32,31,30,29,28,27,26,25,24,23,22,21,20,19,18,17,16,15,14,13,12,11,10,9,};
-    int[]  st = {85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,86,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,87,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(8, trans);
-  } // end buildState8
-
-  private void buildState9() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,80,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(9, trans);
-  } // end buildState9
-
-  private void buildState10() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,75,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(10, trans);
-  } // end buildState10
-
-  private void buildState11() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(11, trans);
-  } // end buildState11
-
-  private void buildState12() {
-    char[] tc = {47,};
-    int[]  st = {73,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(12, trans);
-  } // end buildState12
-
-  private void buildState13() {
-    char[] tc = {61,};
-    int[]  st = {72,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(13, trans);
-  } // end buildState13
-
-  private void buildState14() {
-    char[] tc = {62,61,};
-    int[]  st = {70,71,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(14, trans);
-  } // end buildState14
-
-  private void buildState15() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(15, trans);
-  } // end buildState15
-
-  private void buildState16() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(16, trans);
-  } // end buildState16
-
-  private void buildState17() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,66,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(17, trans);
-  } // end buildState17
-
-  private void buildState18() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,65,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(18, trans);
-  } // end buildState18
-
-  private void buildState19() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,59,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(19, trans);
-  } // end buildState19
-
-  private void buildState20() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(20, trans);
-  } // end buildState20
-
-  private void buildState21() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,55,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(21, trans);
-  } // end buildState21
-
-  private void buildState22() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,52,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(22, trans);
-  } // end buildState22
-
-  private void buildState23() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,45,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(23, trans);
-  } // end buildState23
-
-  private void buildState24() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(24, trans);
-  } // end buildState24
-
-  private void buildState25() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(25, trans);
-  } // end buildState25
-
-  private void buildState26() {
-    char[] tc = {61,};
-    int[]  st = {44,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(26, trans);
-  } // end buildState26
-
-  private void buildState27() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(27, trans);
-  } // end buildState27
-
-  private void buildState28() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(28, trans);
-  } // end buildState28
-
-  private void buildState29() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(29, trans);
-  } // end buildState29
-
-  private void buildState30() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(30, trans);
-  } // end buildState30
-
-  private void buildState31() {
-    char[] tc = {57,56,55,54,53,52,51,50,49,48,};
-    int[]  st = {42,42,42,42,42,42,42,42,42,42,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(31, trans);
-  } // end buildState31
-
-  private void buildState32() {
-    char[] tc = {57,56,101,55,54,53,52,51,50,49,48,69,46,};
-    int[]  st = {34,34,36,34,34,34,34,34,34,34,34,36,35,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(32, trans);
-  } // end buildState32
-
-  private void buildState33() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(33, trans);
-  } // end buildState33
-
-  private void buildState34() {
-    char[] tc = {57,56,101,55,54,53,52,51,50,49,48,69,46,};
-    int[]  st = {32,32,36,32,32,32,32,32,32,32,32,36,41,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(34, trans);
-  } // end buildState34
-
-  private void buildState35() {
-    char[] tc = {57,56,55,54,53,52,51,50,49,48,};
-    int[]  st = {39,39,39,39,39,39,39,39,39,39,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(35, trans);
-  } // end buildState35
-
-  private void buildState36() {
-    char[] tc = {45,43,57,56,55,54,53,52,51,50,49,48,};
-    int[]  st = {37,37,38,38,38,38,38,38,38,38,38,38,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(36, trans);
-  } // end buildState36
-
-  private void buildState37() {
-    char[] tc = {57,56,55,54,53,52,51,50,49,48,};
-    int[]  st = {38,38,38,38,38,38,38,38,38,38,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(37, trans);
-  } // end buildState37
-
-  private void buildState38() {
-    char[] tc = {57,56,55,54,53,52,51,50,49,48,};
-    int[]  st = {38,38,38,38,38,38,38,38,38,38,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(38, trans);
-  } // end buildState38
-
-  private void buildState39() {
-    char[] tc = {57,56,101,55,54,53,52,51,50,49,48,69,};
-    int[]  st = {40,40,36,40,40,40,40,40,40,40,40,36,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(39, trans);
-  } // end buildState39
-
-  private void buildState40() {
-    char[] tc = {57,56,101,55,54,53,52,51,50,49,48,69,};
-    int[]  st = {39,39,36,39,39,39,39,39,39,39,39,36,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(40, trans);
-  } // end buildState40
-
-  private void buildState41() {
-    char[] tc = {57,56,55,54,53,52,51,50,49,48,};
-    int[]  st = {40,40,40,40,40,40,40,40,40,40,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(41, trans);
-  } // end buildState41
-
-  private void buildState42() {
-    char[] tc = {57,56,101,55,54,53,52,51,50,49,48,69,};
-    int[]  st = {43,43,36,43,43,43,43,43,43,43,43,36,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(42, trans);
-  } // end buildState42
-
-  private void buildState43() {
-    char[] tc = {57,56,101,55,54,53,52,51,50,49,48,69,};
-    int[]  st = {42,42,36,42,42,42,42,42,42,42,42,36,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(43, trans);
-  } // end buildState43
-
-  private void buildState44() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(44, trans);
-  } // end buildState44
-
-  private void buildState45() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,48,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(45, trans);
-  } // end buildState45
-
-  private void buildState46() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(46, trans);
-  } // end buildState46
-
-  private void buildState47() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(47, trans);
-  } // end buildState47
-
-  private void buildState48() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,49,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(48, trans);
-  } // end buildState48
-
-  private void buildState49() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,50,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(49, trans);
-  } // end buildState49
-
-  private void buildState50() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,51,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(50, trans);
-  } // end buildState50
-
-  private void buildState51() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(51, trans);
-  } // end buildState51
-
-  private void buildState52() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,53,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(52, trans);
-  } // end buildState52
-
-  private void buildState53() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,54,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(53, trans);
-  } // end buildState53
-
-  private void buildState54() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(54, trans);
-  } // end buildState54
-
-  private void buildState55() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,56,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(55, trans);
-  } // end buildState55
-
-  private void buildState56() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,57,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(56, trans);
-  } // end buildState56
-
-  private void buildState57() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,58,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(57, trans);
-  } // end buildState57
-
-  private void buildState58() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(58, trans);
-  } // end buildState58
-
-  private void buildState59() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,60,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(59, trans);
-  } // end buildState59
-
-  private void buildState60() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,61,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(60, trans);
-  } // end buildState60
-
-  private void buildState61() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,62,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(61, trans);
-  } // end buildState61
-
-  private void buildState62() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,63,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(62, trans);
-  } // end buildState62
-
-  private void buildState63() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,64,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(63, trans);
-  } // end buildState63
-
-  private void buildState64() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(64, trans);
-  } // end buildState64
-
-  private void buildState65() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(65, trans);
-  } // end buildState65
-
-  private void buildState66() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,67,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(66, trans);
-  } // end buildState66
-
-  private void buildState67() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,68,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(67, trans);
-  } // end buildState67
-
-  private void buildState68() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,69,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(68, trans);
-  } // end buildState68
-
-  private void buildState69() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(69, trans);
-  } // end buildState69
-
-  private void buildState70() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(70, trans);
-  } // end buildState70
-
-  private void buildState71() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(71, trans);
-  } // end buildState71
-
-  private void buildState72() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(72, trans);
-  } // end buildState72
-
-  private void buildState73() {
-    char[] tc = {255,254,253,252,251,250,249,248,247,246,245,244,243,242,241,240,239,238,237,236,235,234,233,232,231,230,229,228,227,226,225,224,223,222,221,220,219,218,217,216,215,214,213,212,211,210,209,208,207,206,205,204,203,202,201,200,199,198,197,196,195,194,193,192,191,190,189,188,187,186,185,184,183,182,181,180,179,178,177,176,175,174,173,172,171,170,169,168,167,166,165,164,163,162,161,160,159,158,157,156,155,154,153,152,151,150,149,148,147,146,145,144,143,142,141,140,139,138,137,136,135,134,133,132,131,130,129,128,127,126,125,124,123,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,96,95,94,93,92,91,90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,64,63,62,61,60,59,58,57,56,55,54,53,52,51,50,49,48,47,46,45,44,43,42,41,40,39,38,37,36,35,34,33,32,31,30,29,28,27,26,25,24,23,22,21,20,19,18,17,16,15,14,12,11,9,};
-    int[]  st = {74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(73, trans);
-  } // end buildState73
-
-  private void buildState74() {
-    char[] tc = {255,254,253,252,251,250,249,248,247,246,245,244,243,242,241,240,239,238,237,236,235,234,233,232,231,230,229,228,227,226,225,224,223,222,221,220,219,218,217,216,215,214,213,212,211,210,209,208,207,206,205,204,203,202,201,200,199,198,197,196,195,194,193,192,191,190,189,188,187,186,185,184,183,182,181,180,179,178,177,176,175,174,173,172,171,170,169,168,167,166,165,164,163,162,161,160,159,158,157,156,155,154,153,152,151,150,149,148,147,146,145,144,143,142,141,140,139,138,137,136,135,134,133,132,131,130,129,128,127,126,125,124,123,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,96,95,94,93,92,91,90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,64,63,62,61,60,59,58,57,56,55,54,53,52,51,50,49,48,47,46,45,44,43,42,41,40,39,38,37,36,35,34,33,32,31,30,29,28,27,26,25,24,23,22,21,20,19,18,17,16,15,14,12,11,9,};
-    int[]  st = {74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,74,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(74, trans);
-  } // end buildState74
-
-  private void buildState75() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,76,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(75, trans);
-  } // end buildState75
-
-  private void buildState76() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,77,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(76, trans);
-  } // end buildState76
-
-  private void buildState77() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,78,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(77, trans);
-  } // end buildState77
-
-  private void buildState78() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,79,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(78, trans);
-  } // end buildState78
-
-  private void buildState79() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(79, trans);
-  } // end buildState79
-
-  private void buildState80() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,81,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(80, trans);
-  } // end buildState80
-
-  private void buildState81() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,82,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(81, trans);
-  } // end buildState81
-
-  private void buildState82() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,83,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(82, trans);
-  } // end buildState82
-
-  private void buildState83() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,84,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(83, trans);
-  } // end buildState83
-
-  private void buildState84() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(84, trans);
-  } // end buildState84
-
-  private void buildState85() {
-    char[] tc = {255,254,253,252,251,250,249,248,247,246,245,244,243,242,241,240,239,238,237,236,235,234,233,232,231,230,229,228,227,226,225,224,223,222,221,220,219,218,217,216,215,214,213,212,211,210,209,208,207,206,205,204,203,202,201,200,199,198,197,196,195,194,193,192,191,190,189,188,187,186,185,184,183,182,181,180,179,178,177,176,175,174,173,172,171,170,169,168,167,166,165,164,163,162,161,160,159,158,157,156,155,154,153,152,151,150,149,148,147,146,145,144,143,142,141,140,139,138,137,136,135,134,133,132,131,130,129,128,127,126,125,124,123,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,96,95,94,93,92,91,90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,64,63,62,61,60,59,58,57,56,55,54,53,52,51,50,49,48,47,46,45,44,43,42,41,40,39,38,37,36,35,34,33,32,31,30,29,28,27,26,25,24,23,22,21,20,19,18,17,16,15,14,13,12,11,10,9,};
-    int[]  st = {85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,86,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,87,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(85, trans);
-  } // end buildState85
-
-  private void buildState86() {
-    char[] tc = {255,254,253,252,251,250,249,248,247,246,245,244,243,242,241,240,239,238,237,236,235,234,233,232,231,230,229,228,227,226,225,224,223,222,221,220,219,218,217,216,215,214,213,212,211,210,209,208,207,206,205,204,203,202,201,200,199,198,197,196,195,194,193,192,191,190,189,188,187,186,185,184,183,182,181,180,179,178,177,176,175,174,173,172,171,170,169,168,167,166,165,164,163,162,161,160,159,158,157,156,155,154,153,152,151,150,149,148,147,146,145,144,143,142,141,140,139,138,137,136,135,134,133,132,131,130,129,128,127,126,125,124,123,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,96,95,94,93,92,91,90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,64,63,62,61,60,59,58,57,56,55,54,53,52,51,50,49,48,47,46,45,44,43,42,41,40,39,38,37,36,35,34,33,32,31,30,29,28,27,26,25,24,23,22,21,20,19,18,17,16,15,14,13,12,11,10,9,};
-    int[]  st = {85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,86,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,88,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(86, trans);
-  } // end buildState86
-
-  private void buildState87() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(87, trans);
-  } // end buildState87
-
-  private void buildState88() {
-    char[] tc = {255,254,253,252,251,250,249,248,247,246,245,244,243,242,241,240,239,238,237,236,235,234,233,232,231,230,229,228,227,226,225,224,223,222,221,220,219,218,217,216,215,214,213,212,211,210,209,208,207,206,205,204,203,202,201,200,199,198,197,196,195,194,193,192,191,190,189,188,187,186,185,184,183,182,181,180,179,178,177,176,175,174,173,172,171,170,169,168,167,166,165,164,163,162,161,160,159,158,157,156,155,154,153,152,151,150,149,148,147,146,145,144,143,142,141,140,139,138,137,136,135,134,133,132,131,130,129,128,127,126,125,124,123,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,96,95,94,93,92,91,90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,64,63,62,61,60,59,58,57,56,55,54,53,52,51,50,49,48,47,46,45,44,43,42,41,40,39,38,37,36,35,34,33,32,31,30,29,28,27,26,25,24,23,22,21,20,19,18,17,16,15,14,13,12,11,10,9,};
-    int[]  st = {85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,86,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,87,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,85,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(88, trans);
-  } // end buildState88
-
-  private void buildState89() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(89, trans);
-  } // end buildState89
-
-  private void buildState90() {
-    char[] tc = {};
-    int[]  st = {};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(90, trans);
-  } // end buildState90
-
-  private void buildState91() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,92,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(91, trans);
-  } // end buildState91
-
-  private void buildState92() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,94,47,47,47,93,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(92, trans);
-  } // end buildState92
-
-  private void buildState93() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(93, trans);
-  } // end buildState93
-
-  private void buildState94() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,95,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(94, trans);
-  } // end buildState94
-
-  private void buildState95() {
-    char[] tc = {90,89,88,87,86,85,84,83,82,81,80,79,78,77,76,75,74,73,72,71,70,69,68,67,66,65,57,56,55,54,53,52,51,50,49,48,122,121,120,119,118,117,116,115,114,113,112,111,110,109,108,107,106,105,104,103,102,101,100,99,98,97,95,};
-    int[]  st = {47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,46,46,46,46,46,46,46,46,46,46,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,47,};
-    Hashtable<Character, Integer> trans = new Hashtable<Character, Integer>();
-    for (int i = 0; i < tc.length; i++) trans.put(tc[i], st[i]);
-    DFA.put(95, trans);
-  } // end buildState95
+  /** Returns the kind of the token with the given name, or throws if there is no such token. */
+  public static int tokenKind(String name) {
+    if (name.equals("eof")) return EOF_TOKEN;
+    for (int k = 0; k < tokenNames.length; k++) {
+      if (tokenNames[k].equals(name)) return k;
+    }
+    throw new IllegalArgumentException("Unknown token name: " + name);
+  }
 
 } // end CMMTokenizer
@@ -0,0 +1,240 @@
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Measures CMMTokenizer throughput and allocation for each way of feeding it
+ * input: a Reader, a byte[], a mapped file, a channel streamed through a
+ * fixed window, and tokenizeAll() into a CMMTokenStream.  The first four pull
+ * every token through nextToken(), as the parser does.
+ *
+ * It runs the way a JMH benchmark in throughput mode does, without needing
+ * JMH: each input and mode gets warmup iterations that are thrown away, then
+ * measured iterations of a fixed length that lex the input again and again.
+ * Reported are the mean and spread of tokens/s, MB/s, and the bytes the
+ * lexing thread allocated per token.
+ *
+ * With no files given it lexes generated inputs: code like simple2.cmm,
+ * identifier-heavy code, long string literals, comment-heavy code, and one
+ * very large file.  Generation is seeded, so runs compare.
+ *
+ * Usage: java CMMTokenizerBenchmark [-wi warmups] [-i iterations] [-ms ms per iteration]
+ *                                   [-large MB] [-modes reader,bytes,...] [file.cmm ...]
+ */
+public class CMMTokenizerBenchmark {
+
+  private static final String[] MODES = { "reader", "bytes", "mapped", "channel", "stream" };
+
+  // what was lexed, so the JIT cannot drop the work
+  static volatile int sink;
+
+  public static void main(String[] args) throws Exception {
+    int warmups = 3, iterations = 5, largeMB = 64;
+    long iterationNanos = 500_000_000L;
+    String[] modes = MODES;
+    List<String> names = new ArrayList<String>();
+    List<byte[]> inputs = new ArrayList<byte[]>();
+
+    for (int a = 0; a < args.length; a++) {
+      if (args[a].equals("-wi")) warmups = Integer.parseInt(args[++a]);
+      else if (args[a].equals("-i")) iterations = Integer.parseInt(args[++a]);
+      else if (args[a].equals("-ms")) iterationNanos = Long.parseLong(args[++a]) * 1_000_000L;
+      else if (args[a].equals("-large")) largeMB = Integer.parseInt(args[++a]);
+      else if (args[a].equals("-modes")) modes = args[++a].split(",");
+      else if (args[a].startsWith("-")) {
+        System.err.println("usage: java CMMTokenizerBenchmark [-wi warmups] [-i iterations] [-ms ms per iteration] [-large MB] [-modes reader,bytes,mapped,channel,stream] [file.cmm ...]");
+        System.exit(-1);
+      } else {
+        names.add(Paths.get(args[a]).getFileName().toString());
+        inputs.add(Files.readAllBytes(Paths.get(args[a])));
+      }
+    }
+    if (inputs.isEmpty()) {
+      Random random = new Random(42);
+      int size = 1 << 20;
+      names.add("simple2");     inputs.add(program(random, size));
+      names.add("identifiers"); inputs.add(identifiers(random, size));
+      names.add("strings");     inputs.add(strings(random, size));
+      names.add("comments");    inputs.add(comments(random, size));
+      names.add("large");       inputs.add(program(random, largeMB << 20));
+    }
+
+    System.out.printf("%d warmup and %d measured iterations of %d ms each%n", warmups, iterations, iterationNanos / 1_000_000);
+    System.out.printf("%-12s %-8s %10s %18s %16s %10s%n", "input", "mode", "tokens", "Mtokens/s", "MB/s", "B/token");
+    for (int k = 0; k < inputs.size(); k++) {
+      byte[] source = inputs.get(k);
+      Path path = Files.createTempFile("cmm-bench", ".cmm");
+      path.toFile().deleteOnExit();
+      Files.write(path, source);
+      for (String mode : modes) {
+        for (int w = 0; w < warmups; w++) iteration(mode, source, path, iterationNanos);
+        double[] tokensPerSecond = new double[iterations], bytesPerSecond = new double[iterations];
+        double allocated = 0;
+        int tokens = 0;
+        for (int i = 0; i < iterations; i++) {
+          Result r = iteration(mode, source, path, iterationNanos);
+          tokensPerSecond[i] = r.tokens * 1e3 / r.nanos;
+          bytesPerSecond[i] = (double) r.passes * source.length * 1e3 / r.nanos;
+          allocated += (double) r.allocated / r.tokens;
+          tokens = r.tokens / r.passes;
+        }
+        System.out.printf("%-12s %-8s %10d %9.2f +- %6.2f %8.1f +- %5.1f %10.1f%n", names.get(k), mode, tokens,
+            mean(tokensPerSecond), error(tokensPerSecond), mean(bytesPerSecond), error(bytesPerSecond), allocated / iterations);
+      }
+      Files.delete(path);
+    }
+  } // end main
+
+  private static class Result {
+    long nanos, allocated;
+    int passes, tokens;
+  }
+
+  /** Lexes source over and over for at least nanos. */
+  private static Result iteration(String mode, byte[] source, Path path, long nanos) throws Exception {
+    Result r = new Result();
+    long allocated0 = allocatedBytes(), t0 = System.nanoTime();
+    do {
+      r.tokens += tokenize(mode, source, path);
+      r.passes++;
+      r.nanos = System.nanoTime() - t0;
+    } while (r.nanos < nanos);
+    r.allocated = allocatedBytes() - allocated0;
+    return r;
+  } // end iteration
+
+  /** Lexes source once in mode and returns the number of tokens, not counting eof. */
+  private static int tokenize(String mode, byte[] source, Path path) throws Exception {
+    if (mode.equals("stream")) {
+      CMMTokenStream s = new CMMTokenizer(source).tokenizeAll();
+      sink = s.kind(s.size() / 2);
+      return s.size() - 1;
+    }
+    FileChannel channel = null;
+    CMMTokenizer t;
+    if (mode.equals("reader")) t = new CMMTokenizer(new InputStreamReader(new ByteArrayInputStream(source), StandardCharsets.UTF_8));
+    else if (mode.equals("bytes")) t = new CMMTokenizer(source);
+    else if (mode.equals("mapped")) t = new CMMTokenizer(path);
+    else if (mode.equals("channel")) t = new CMMTokenizer(channel = FileChannel.open(path, StandardOpenOption.READ));
+    else throw new IllegalArgumentException("Unknown mode " + mode);
+    int tokens = 0, kinds = 0;
+    CMMToken token;
+    while ((token = t.nextToken()).type != CMMTokenizer.EOF_TOKEN) { tokens++; kinds += token.type; }
+    if (channel != null) channel.close();
+    sink = kinds;
+    return tokens;
+  } // end tokenize
+
+  static long allocatedBytes() {
+    return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes();
+  }
+
+  static double mean(double[] x) {
+    double sum = 0;
+    for (double v : x) sum += v;
+    return sum / x.length;
+  }
+
+  // half the spread of the measurements: how far any one was from the middle
+  static double error(double[] x) {
+    double min = Double.MAX_VALUE, max = -Double.MAX_VALUE;
+    for (double v : x) { min = Math.min(min, v); max = Math.max(max, v); }
+    return (max - min) / 2;
+  }
+
+  // ---- generated inputs ----
+
+  private static final String LETTERS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ_";
+
+  private static String name(Random random, int min, int max) {
+    int length = min + random.nextInt(max - min + 1);
+    StringBuilder s = new StringBuilder(length);
+    s.append(LETTERS.charAt(random.nextInt(LETTERS.length())));
+    for (int i = 1; i < length; i++) {
+      s.append(random.nextInt(5) == 0 ? (char) ('0' + random.nextInt(10)) : LETTERS.charAt(random.nextInt(LETTERS.length())));
+    }
+    return s.toString();
+  } // end name
+
+  private static String words(Random random, int length) {
+    StringBuilder s = new StringBuilder(length);
+    while (s.length() < length) s.append(name(random, 1, 9).toLowerCase()).append(' ');
+    return s.toString();
+  }
+
+  /** Functions like simple2.cmm's: short names, blocks, calls, numbers and a few comments. */
+  static byte[] program(Random random, int size) {
+    StringBuilder s = new StringBuilder(size + 1024);
+    for (int f = 0; s.length() < size; f++) {
+      s.append("// helper ").append(f).append('\n');
+      s.append("number f").append(f).append("(number a, number b) {\n");
+      s.append("  number x, y;\n");
+      s.append("  x = a * ").append(random.nextInt(100)).append(" + b / ").append(random.nextInt(1000) / 10.0).append(";\n");
+      s.append("  y = 0;\n");
+      s.append("  while (y < x) {\n");
+      s.append("  \ty = y + 1;\n");
+      s.append("  \tif (y >= 10) {\n");
+      s.append("  \t\tprintln(\"big \" + y);\n");
+      s.append("  \t}\n");
+      s.append("  }\n");
+      s.append("  //return 0;\n");
+      s.append("  return x - f").append(Math.max(0, f - 1)).append("(y, 2.5e").append(random.nextInt(10)).append(");\n");
+      s.append("}\n\n");
+    }
+    return s.toString().getBytes(StandardCharsets.UTF_8);
+  } // end program
+
+  /** Declarations and assignments over a pool of a few thousand identifiers. */
+  private static byte[] identifiers(Random random, int size) {
+    String[] pool = new String[4096];
+    for (int i = 0; i < pool.length; i++) pool[i] = name(random, 2, 16);
+    StringBuilder s = new StringBuilder(size + 1024);
+    while (s.length() < size) {
+      s.append("number ");
+      for (int i = 0; i < 8; i++) s.append(i > 0 ? ", " : "").append(pool[random.nextInt(pool.length)]);
+      s.append(";\n");
+      for (int i = 0; i < 8; i++) {
+        s.append(pool[random.nextInt(pool.length)]).append(" = ").append(pool[random.nextInt(pool.length)])
+         .append(" + ").append(pool[random.nextInt(pool.length)]).append(" * ").append(pool[random.nextInt(pool.length)]).append(";\n");
+      }
+    }
+    return s.toString().getBytes(StandardCharsets.UTF_8);
+  } // end identifiers
+
+  /** Calls with string literals of a few hundred to a few thousand chars, some with escaped quotes. */
+  private static byte[] strings(Random random, int size) {
+    StringBuilder s = new StringBuilder(size + 4096);
+    while (s.length() < size) {
+      s.append("println(\"");
+      String text = words(random, 200 + random.nextInt(1800));
+      for (int i = 0; i < text.length(); i++) {
+        if (random.nextInt(100) == 0) s.append("\\\"");
+        s.append(text.charAt(i));
+      }
+      s.append("\");\n");
+    }
+    return s.toString().getBytes(StandardCharsets.UTF_8);
+  } // end strings
+
+  /** Mostly line comments and blank lines, with a statement now and then. */
+  private static byte[] comments(Random random, int size) {
+    StringBuilder s = new StringBuilder(size + 1024);
+    while (s.length() < size) {
+      for (int i = 0, n = 2 + random.nextInt(8); i < n; i++) {
+        s.append("  // ").append(words(random, 40 + random.nextInt(80))).append('\n');
+        if (random.nextInt(4) == 0) s.append('\n');
+      }
+      s.append("  x = x + 1;\n");
+    }
+    return s.toString().getBytes(StandardCharsets.UTF_8);
+  } // end comments
+
+} // end CMMTokenizerBenchmark
@@ -0,0 +1,792 @@
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads a token definition file (cmm.t) and writes CMMTokenizerTables.java,
+ * the scanner tables CMMTokenizer runs on.  The tables are emitted as static
+ * final arrays so there is nothing to build when a tokenizer starts up.
+ *
+ * Usage: java CMMTokenizerGenerator cmm.t CMMTokenizerTables.java
+ *
+ * The definition syntax is the one ssCC accepts: "name: regex" lines, with
+ * ":name:" definitions usable as macros, '#' comment lines, and regexes built
+ * from literals, escapes, [...] and [^...] classes, '.', ( ), |, *, + and ?.
+ * Whitespace inside a regex is ignored unless escaped.
+ */
+public class CMMTokenizerGenerator {
+
+  // ssCC's negated classes and '.' range over chars 9..255 (tab through 0xff), and so do ours
+  private static final int MIN_CHAR = 9, MAX_CHAR = 255;
+
+  private static final String TABLES_CLASS = "CMMTokenizerTables";
+
+  /** A node of a parsed regular expression */
+  private static class Regex {
+    static final int CHARS = 0, CAT = 1, ALT = 2, STAR = 3, PLUS = 4, OPT = 5;
+    int op;
+    BitSet chars;
+    Regex left, right;
+    Regex(int o, BitSet c, Regex l, Regex r) { op = o; chars = c; left = l; right = r; }
+  } // end Regex
+
+  private Map<String, Regex> macros = new HashMap<String, Regex>();
+
+  // token name -> its definition, in order of first appearance (earlier definitions win ties)
+  private LinkedHashMap<String, Regex> tokens = new LinkedHashMap<String, Regex>();
+
+  // NFA: edges out of each state, labelled with a char set (null for epsilon)
+  private List<List<BitSet>> edgeChars = new ArrayList<List<BitSet>>();
+  private List<List<Integer>> edgeTargets = new ArrayList<List<Integer>>();
+  private List<Integer> nfaAccepts = new ArrayList<Integer>(); // token index accepted in each state, or -1
+
+  // minimized DFA
+  private int numStates, numClasses;
+  private int[] charClass = new int[MAX_CHAR+1];
+  private int[] transitions;
+  private int[] accepts;
+  private String[] lexemes;
+
+  // Literal words of tokens folded into the identifier-like token keywordOwner:
+  // each word's token, and a perfect hash that finds it from the word's text
+  private LinkedHashMap<String, Integer> keywords = new LinkedHashMap<String, Integer>();
+  private int keywordOwner = -1;
+  private int hashA, hashB, hashC, hashMask;
+  private String[] keywordTable = new String[1];
+
+  public static void main(String[] args) {
+    if (args.length != 2) {
+      System.err.println("Usage: java CMMTokenizerGenerator <token file> <output file>");
+      System.exit(-1);
+    }
+    try {
+      CMMTokenizerGenerator g = new CMMTokenizerGenerator();
+      g.read(new BufferedReader(new FileReader(args[0])));
+      g.build();
+      PrintStream out = new PrintStream(new FileOutputStream(args[1]));
+      g.write(out, args[0]);
+      out.close();
+    } catch (IOException e) {
+      System.err.println(e);
+      System.exit(-1);
+    } catch (IllegalArgumentException e) {
+      System.err.println(args[0] + ": " + e.getMessage());
+      System.exit(-1);
+    }
+  } // end main
+
+  private void read(BufferedReader in) throws IOException {
+    String line;
+    int lineNumber = 0;
+    while ((line = in.readLine()) != null) {
+      lineNumber++;
+      String text = line.trim();
+      if (text.isEmpty() || text.startsWith("#")) continue;
+
+      String name, body;
+      if (text.startsWith(":")) {
+        int end = text.indexOf(':', 1);
+        if (end == -1) throw new IllegalArgumentException("line " + lineNumber + ": unterminated macro name");
+        name = text.substring(0, end+1);
+        body = text.substring(end+1);
+      } else {
+        int end = text.indexOf(':');
+        if (end == -1) throw new IllegalArgumentException("line " + lineNumber + ": expected \"name: regex\"");
+        name = text.substring(0, end).trim();
+        body = text.substring(end+1);
+      }
+
+      Regex re;
+      try {
+        re = new RegexParser(body).parse();
+      } catch (IllegalArgumentException e) {
+        throw new IllegalArgumentException("line " + lineNumber + ": " + e.getMessage());
+      }
+
+      if (name.startsWith(":")) {
+        macros.put(name, re);
+      } else if (!name.matches("[A-Za-z_][A-Za-z0-9_]*") || name.equals("eof")) {
+        throw new IllegalArgumentException("line " + lineNumber + ": bad token name \"" + name + "\"");
+      } else if (tokens.containsKey(name)) {
+        tokens.put(name, new Regex(Regex.ALT, null, tokens.get(name), re));
+      } else {
+        tokens.put(name, re);
+      }
+    }
+  } // end read
+
+  private class RegexParser {
+    private String text;
+    private int pos = 0;
+
+    RegexParser(String t) { text = t; }
+
+    Regex parse() {
+      Regex re = alternation();
+      if (peek() != -1) throw new IllegalArgumentException("unexpected '" + (char)peek() + "' in regex");
+      return re;
+    }
+
+    private int peek() {
+      while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+      return pos < text.length() ? text.charAt(pos) : -1;
+    }
+
+    private Regex alternation() {
+      Regex re = concatenation();
+      while (peek() == '|') {
+        pos++;
+        re = new Regex(Regex.ALT, null, re, concatenation());
+      }
+      return re;
+    }
+
+    private Regex concatenation() {
+      Regex re = null;
+      int c;
+      while ((c = peek()) != -1 && c != '|' && c != ')') {
+        Regex next = repetition();
+        re = re == null ? next : new Regex(Regex.CAT, null, re, next);
+      }
+      if (re == null) throw new IllegalArgumentException("empty regex");
+      return re;
+    }
+
+    private Regex repetition() {
+      Regex re = atom();
+      int c;
+      while ((c = peek()) == '*' || c == '+' || c == '?') {
+        pos++;
+        re = new Regex(c == '*' ? Regex.STAR : c == '+' ? Regex.PLUS : Regex.OPT, null, re, null);
+      }
+      return re;
+    }
+
+    private Regex atom() {
+      int c = peek();
+      pos++;
+      switch (c) {
+      case '(':
+        Regex re = alternation();
+        if (peek() != ')') throw new IllegalArgumentException("missing ')'");
+        pos++;
+        return re;
+      case '[':
+        return new Regex(Regex.CHARS, charClass(), null, null);
+      case ':':
+        int end = text.indexOf(':', pos);
+        if (end == -1) throw new IllegalArgumentException("unterminated macro reference");
+        String name = text.substring(pos-1, end+1);
+        pos = end+1;
+        if (!macros.containsKey(name)) throw new IllegalArgumentException("macro " + name + " used before it is defined");
+        return macros.get(name);
+      case '.':
+        BitSet any = new BitSet();
+        any.set(MIN_CHAR, MAX_CHAR+1);
+        return new Regex(Regex.CHARS, any, null, null);
+      case '\\':
+        return single(escape());
+      case '~': case ']':
+        throw new IllegalArgumentException("unsupported '" + (char)c + "' in regex");
+      default:
+        return single(c);
+      }
+    }
+
+    private BitSet charClass() {
+      BitSet set = new BitSet();
+      boolean negated = peek() == '^';
+      if (negated) pos++;
+      int c;
+      while ((c = peek()) != ']') {
+        if (c == -1) throw new IllegalArgumentException("missing ']'");
+        pos++;
+        set.set(c == '\\' ? escape() : c);
+      }
+      pos++;
+      if (negated) {
+        BitSet all = new BitSet();
+        all.set(MIN_CHAR, MAX_CHAR+1);
+        all.andNot(set);
+        set = all;
+      }
+      return set;
+    }
+
+    private int escape() {
+      if (pos >= text.length()) throw new IllegalArgumentException("dangling '\\'");
+      char c = text.charAt(pos++);
+      switch (c) {
+      case 's': return ' ';
+      case 't': return '\t';
+      case 'n': return '\n';
+      case 'r': return '\r';
+      default: return c;
+      }
+    }
+
+    private Regex single(int c) {
+      BitSet set = new BitSet();
+      set.set(c);
+      return new Regex(Regex.CHARS, set, null, null);
+    }
+  } // end RegexParser
+
+  private void build() {
+    if (tokens.isEmpty()) throw new IllegalArgumentException("no tokens defined");
+
+    List<String> names = new ArrayList<String>(tokens.keySet());
+    BitSet folded = new BitSet();
+    buildScanner(names, folded);
+
+    // A token that is just a few literal words, each of which a later token
+    // such as id matches too, needs states only to tell those words apart.
+    // It is folded into that token, which finds it by keyword lookup instead.
+    Map<Integer, List<String>> words = new HashMap<Integer, List<String>>();
+    for (int t = 0; t < names.size(); t++) {
+      List<String> w = names.get(t).equals("skip") ? null : literals(tokens.get(names.get(t)));
+      if (w != null) { words.put(t, w); folded.set(t); }
+    }
+    if (folded.isEmpty()) return;
+
+    int[] fullClass = charClass.clone(), fullTransitions = transitions, fullAccepts = accepts;
+    int fullClasses = numClasses;
+
+    while (true) {
+      buildScanner(names, folded);
+      int kept = -1;
+      for (int t = folded.nextSetBit(0); t >= 0 && kept == -1; t = folded.nextSetBit(t+1)) {
+        for (String w : words.get(t)) if (run(w) <= t) kept = t;
+      }
+      if (kept == -1) break;
+      folded.clear(kept);
+    }
+
+    for (int t = folded.nextSetBit(0); t >= 0; t = folded.nextSetBit(t+1)) {
+      for (String w : words.get(t)) {
+        // a word an earlier token wins was never this token's
+        if (run(fullClass, fullTransitions, fullAccepts, fullClasses, w) != t) continue;
+        keywords.put(w, t);
+        if (keywordOwner != -1 && keywordOwner != run(w)) throw new IllegalArgumentException("keywords " + w + " and " + keywords.keySet().iterator().next() + " are words of different tokens");
+        keywordOwner = run(w);
+      }
+    }
+
+    checkKeywords(fullClass, fullTransitions, fullAccepts, fullClasses);
+    hashKeywords();
+  } // end build
+
+  /** Builds the NFA for every token but the excluded ones, then the DFA from it. */
+  private void buildScanner(List<String> names, BitSet excluded) {
+    edgeChars.clear(); edgeTargets.clear(); nfaAccepts.clear();
+    int start = newNFAState();
+    for (int t = 0; t < names.size(); t++) {
+      if (excluded.get(t)) continue;
+      int accept = newNFAState();
+      nfaAccepts.set(accept, t);
+      int[] fragment = buildNFA(tokens.get(names.get(t)));
+      addEdge(start, null, fragment[0]);
+      addEdge(fragment[1], null, accept);
+    }
+
+    buildDFA(start);
+  } // end buildScanner
+
+  /** The strings a regex matches, if it is only literals, concatenation and |; otherwise null */
+  private static List<String> literals(Regex re) {
+    List<String> result = new ArrayList<String>();
+    if (re.op == Regex.CHARS) {
+      if (re.chars.cardinality() != 1) return null;
+      result.add(String.valueOf((char)re.chars.nextSetBit(0)));
+    } else if (re.op == Regex.CAT || re.op == Regex.ALT) {
+      List<String> left = literals(re.left), right = literals(re.right);
+      if (left == null || right == null) return null;
+      if (re.op == Regex.ALT) {
+        result.addAll(left);
+        result.addAll(right);
+      } else {
+        for (String l : left) for (String r : right) result.add(l + r);
+      }
+    } else {
+      return null;
+    }
+    return result;
+  } // end literals
+
+  /** The token the current DFA accepts for the whole of text, or -1 */
+  private int run(String text) {
+    return run(charClass, transitions, accepts, numClasses, text);
+  }
+
+  private static int run(int[] charClass, int[] transitions, int[] accepts, int numClasses, String text) {
+    int s = 0;
+    for (int i = 0; i < text.length() && s != -1; i++) {
+      int c = text.charAt(i);
+      s = c > MAX_CHAR ? -1 : transitions[s * numClasses + charClass[c]];
+    }
+    return s == -1 ? -1 : accepts[s];
+  }
+
+  /**
+   * Walks the full DFA and the folded one together, along with the keyword a
+   * string is a prefix of, to make sure the folded scanner with its keyword
+   * lookup stops and accepts exactly where the full one does.
+   */
+  private void checkKeywords(int[] fullClass, int[] fullTransitions, int[] fullAccepts, int fullClasses) {
+    Set<String> prefixes = new HashSet<String>();
+    for (String w : keywords.keySet()) for (int i = 0; i <= w.length(); i++) prefixes.add(w.substring(0, i));
+
+    Set<String> seen = new HashSet<String>();
+    List<Object[]> work = new ArrayList<Object[]>();
+    work.add(new Object[] { 0, 0, "" });
+    while (!work.isEmpty()) {
+      Object[] item = work.remove(work.size()-1);
+      int full = (Integer)item[0], s = (Integer)item[1];
+      String prefix = (String)item[2];
+      if (!seen.add(full + "," + s + "," + prefix)) continue;
+
+      int accept = accepts[s];
+      if (accept == keywordOwner && prefix != null && keywords.containsKey(prefix)) accept = keywords.get(prefix);
+      if (accept != fullAccepts[full]) throw new IllegalArgumentException("folding keywords into " + keywordOwner + " changes what \"" + prefix + "\" matches");
+
+      for (int c = 0; c <= MAX_CHAR; c++) {
+        int nextFull = fullTransitions[full * fullClasses + fullClass[c]];
+        int next = transitions[s * numClasses + charClass[c]];
+        if ((nextFull == -1) != (next == -1)) throw new IllegalArgumentException("folding keywords changes where a token ends");
+        if (next == -1) continue;
+        String extended = prefix == null ? null : prefix + (char)c;
+        work.add(new Object[] { nextFull, next, prefixes.contains(extended) ? extended : null });
+      }
+    }
+  } // end checkKeywords
+
+  /**
+   * Finds multipliers that hash the first, middle and last chars and length
+   * of every keyword into its own slot of the smallest table that allows it.
+   */
+  private void hashKeywords() {
+    int n = keywords.size();
+    for (int size = Integer.highestOneBit(Math.max(1, 2*n - 1)); size <= 1 << 12; size *= 2) {
+      for (int a = 1; a < 64; a++) {
+        for (int b = 0; b < 64; b++) {
+          for (int c = 1; c < 64; c++) {
+            String[] table = new String[size];
+            boolean perfect = true;
+            for (String w : keywords.keySet()) {
+              int h = (w.charAt(0) * a + w.charAt(w.length()/2) * b + w.charAt(w.length()-1) * c + w.length()) & (size-1);
+              if (table[h] != null) { perfect = false; break; }
+              table[h] = w;
+            }
+            if (perfect) {
+              hashA = a; hashB = b; hashC = c; hashMask = size-1;
+              keywordTable = table;
+              return;
+            }
+          }
+        }
+      }
+    }
+    throw new IllegalArgumentException("no perfect hash for keywords " + keywords.keySet());
+  } // end hashKeywords
+
+  private int newNFAState() {
+    edgeChars.add(new ArrayList<BitSet>());
+    edgeTargets.add(new ArrayList<Integer>());
+    nfaAccepts.add(-1);
+    return nfaAccepts.size()-1;
+  }
+
+  private void addEdge(int from, BitSet chars, int to) {
+    edgeChars.get(from).add(chars);
+    edgeTargets.get(from).add(to);
+  }
+
+  /** Thompson construction; returns the entry and exit states of the fragment */
+  private int[] buildNFA(Regex re) {
+    int in, out;
+    int[] a, b;
+    switch (re.op) {
+    case Regex.CHARS:
+      in = newNFAState(); out = newNFAState();
+      addEdge(in, re.chars, out);
+      return new int[] { in, out };
+    case Regex.CAT:
+      a = buildNFA(re.left); b = buildNFA(re.right);
+      addEdge(a[1], null, b[0]);
+      return new int[] { a[0], b[1] };
+    case Regex.ALT:
+      in = newNFAState(); out = newNFAState();
+      a = buildNFA(re.left); b = buildNFA(re.right);
+      addEdge(in, null, a[0]); addEdge(in, null, b[0]);
+      addEdge(a[1], null, out); addEdge(b[1], null, out);
+      return new int[] { in, out };
+    default: // STAR, PLUS, OPT
+      in = newNFAState(); out = newNFAState();
+      a = buildNFA(re.left);
+      addEdge(in, null, a[0]);
+      addEdge(a[1], null, out);
+      if (re.op != Regex.PLUS) addEdge(in, null, out);
+      if (re.op != Regex.OPT) addEdge(a[1], null, a[0]);
+      return new int[] { in, out };
+    }
+  } // end buildNFA
+
+  private BitSet closure(BitSet states) {
+    BitSet result = (BitSet)states.clone();
+    List<Integer> work = new ArrayList<Integer>();
+    for (int s = states.nextSetBit(0); s >= 0; s = states.nextSetBit(s+1)) work.add(s);
+    while (!work.isEmpty()) {
+      int s = work.remove(work.size()-1);
+      for (int i = 0; i < edgeChars.get(s).size(); i++) {
+        int t = edgeTargets.get(s).get(i);
+        if (edgeChars.get(s).get(i) == null && !result.get(t)) {
+          result.set(t);
+          work.add(t);
+        }
+      }
+    }
+    return result;
+  } // end closure
+
+  /** Subset construction followed by partition refinement */
+  private void buildDFA(int nfaStart) {
+    List<BitSet> subsets = new ArrayList<BitSet>();
+    Map<BitSet, Integer> index = new HashMap<BitSet, Integer>();
+    List<int[]> moves = new ArrayList<int[]>();
+
+    BitSet first = new BitSet();
+    first.set(nfaStart);
+    first = closure(first);
+    subsets.add(first);
+    index.put(first, 0);
+
+    for (int d = 0; d < subsets.size(); d++) {
+      int[] row = new int[MAX_CHAR+1];
+      for (int c = 0; c <= MAX_CHAR; c++) {
+        BitSet next = new BitSet();
+        BitSet from = subsets.get(d);
+        for (int s = from.nextSetBit(0); s >= 0; s = from.nextSetBit(s+1)) {
+          for (int i = 0; i < edgeChars.get(s).size(); i++) {
+            BitSet chars = edgeChars.get(s).get(i);
+            if (chars != null && chars.get(c)) next.set(edgeTargets.get(s).get(i));
+          }
+        }
+        if (next.isEmpty()) {
+          row[c] = -1;
+          continue;
+        }
+        next = closure(next);
+        Integer target = index.get(next);
+        if (target == null) {
+          target = subsets.size();
+          subsets.add(next);
+          index.put(next, target);
+        }
+        row[c] = target;
+      }
+      moves.add(row);
+    }
+
+    int[] accepted = new int[subsets.size()];
+    for (int d = 0; d < subsets.size(); d++) {
+      accepted[d] = -1;
+      BitSet set = subsets.get(d);
+      for (int s = set.nextSetBit(0); s >= 0; s = set.nextSetBit(s+1)) {
+        int t = nfaAccepts.get(s);
+        if (t != -1 && (accepted[d] == -1 || t < accepted[d])) accepted[d] = t;
+      }
+    }
+
+    // refine blocks of states that accept the same token until no block splits
+    int[] block = accepted.clone();
+    int blocks;
+    while (true) {
+      Map<String, Integer> signatures = new HashMap<String, Integer>();
+      int[] refined = new int[block.length];
+      for (int d = 0; d < block.length; d++) {
+        StringBuilder sig = new StringBuilder().append(block[d]).append(':');
+        for (int c = 0; c <= MAX_CHAR; c++) sig.append(moves.get(d)[c] == -1 ? -1 : block[moves.get(d)[c]]).append(',');
+        Integer b = signatures.get(sig.toString());
+        if (b == null) {
+          b = signatures.size();
+          signatures.put(sig.toString(), b);
+        }
+        refined[d] = b;
+      }
+      boolean stable = signatures.size() == countDistinct(block);
+      block = refined;
+      blocks = signatures.size();
+      if (stable) break;
+    }
+
+    // number the blocks breadth first from the start state
+    int[] number = new int[blocks];
+    int[] representative = new int[blocks];
+    Arrays.fill(number, -1);
+    List<Integer> order = new ArrayList<Integer>();
+    number[block[0]] = 0; representative[block[0]] = 0;
+    order.add(block[0]);
+    for (int i = 0; i < order.size(); i++) {
+      int d = representative[order.get(i)];
+      for (int c = 0; c <= MAX_CHAR; c++) {
+        int t = moves.get(d)[c];
+        if (t != -1 && number[block[t]] == -1) {
+          number[block[t]] = order.size();
+          representative[block[t]] = t;
+          order.add(block[t]);
+        }
+      }
+    }
+    numStates = order.size();
+
+    // chars that behave the same in every state share a class; class 0 is always dead
+    Map<String, Integer> classes = new HashMap<String, Integer>();
+    StringBuilder dead = new StringBuilder();
+    for (int s = 0; s < numStates; s++) dead.append("-1,");
+    classes.put(dead.toString(), 0);
+    int[] classRepresentative = new int[MAX_CHAR+2];
+    for (int c = 0; c <= MAX_CHAR; c++) {
+      StringBuilder column = new StringBuilder();
+      for (int s = 0; s < numStates; s++) {
+        int t = moves.get(representative[order.get(s)])[c];
+        column.append(t == -1 ? -1 : number[block[t]]).append(',');
+      }
+      Integer cls = classes.get(column.toString());
+      if (cls == null) {
+        cls = classes.size();
+        classes.put(column.toString(), cls);
+        classRepresentative[cls] = c;
+      }
+      charClass[c] = cls;
+    }
+    numClasses = classes.size();
+
+    transitions = new int[numStates * numClasses];
+    accepts = new int[numStates];
+    for (int s = 0; s < numStates; s++) {
+      int d = representative[order.get(s)];
+      accepts[s] = accepted[d];
+      transitions[s * numClasses] = -1;
+      for (int cls = 1; cls < numClasses; cls++) {
+        int t = moves.get(d)[classRepresentative[cls]];
+        transitions[s * numClasses + cls] = t == -1 ? -1 : number[block[t]];
+      }
+    }
+
+    findLexemes();
+  } // end buildDFA
+
+  /**
+   * A state entered by exactly one char from exactly one other state extends
+   * that state's text, so the only string that can reach it is known here and
+   * the tokenizer never has to copy it out of the input.
+   */
+  private void findLexemes() {
+    int[] incoming = new int[numStates];
+    int[] from = new int[numStates];
+    int[] on = new int[numStates];
+    for (int s = 0; s < numStates; s++) {
+      for (int c = 0; c <= MAX_CHAR; c++) {
+        int t = transitions[s * numClasses + charClass[c]];
+        if (t == -1) continue;
+        incoming[t]++;
+        from[t] = s;
+        on[t] = c;
+      }
+    }
+
+    // states are numbered breadth first, so a lone predecessor always comes first
+    lexemes = new String[numStates];
+    lexemes[0] = incoming[0] == 0 ? "" : null;
+    for (int s = 1; s < numStates; s++) {
+      if (incoming[s] == 1 && from[s] < s && lexemes[from[s]] != null) lexemes[s] = lexemes[from[s]] + (char)on[s];
+    }
+  } // end findLexemes
+
+  private static int countDistinct(int[] values) {
+    BitSet seen = new BitSet();
+    for (int v : values) seen.set(v+1);
+    return seen.cardinality();
+  }
+
+  private void write(PrintStream out, String source) {
+    List<String> names = new ArrayList<String>(tokens.keySet());
+
+    out.println("/**");
+    out.println(" * Scanner tables for CMMTokenizer, generated from " + new File(source).getName() + " by CMMTokenizerGenerator.");
+    out.println(" * Do not edit by hand; run make to regenerate.");
+    out.println(" */");
+    out.println("final class " + TABLES_CLASS + " {");
+    out.println();
+    out.println("  private " + TABLES_CLASS + "() { }");
+    out.println();
+    out.println("  static final int NUM_STATES = " + numStates + ";");
+    out.println("  static final int NUM_CLASSES = " + numClasses + ";");
+    out.println();
+    out.println("  // chars above this value never appear in a transition and fall into OTHER_CLASS");
+    out.println("  static final int MAX_CLASSED_CHAR = " + MAX_CHAR + ";");
+    out.println("  static final int OTHER_CLASS = 0;");
+    out.println();
+    out.println("  // class of each char 0..MAX_CLASSED_CHAR");
+    printChars(out, "CHAR_CLASS", charClass);
+    out.println();
+    out.println("  // TRANSITIONS[state * NUM_CLASSES + class] is the next state, or -1 if there is none");
+    out.println("  static final int[] TRANSITIONS = {");
+    for (int s = 0; s < numStates; s++) {
+      out.print("    ");
+      for (int cls = 0; cls < numClasses; cls++) out.print(transitions[s * numClasses + cls] + ",");
+      out.println(" // " + s);
+    }
+    out.println("  };");
+    out.println();
+    // skip is always kind 0; the rest are numbered from 1 in the order they are defined
+    int[] kind = new int[names.size()];
+    List<String> kindNames = new ArrayList<String>();
+    kindNames.add("skip");
+    for (int t = 0; t < names.size(); t++) {
+      if (names.get(t).equals("skip")) continue;
+      kind[t] = kindNames.size();
+      kindNames.add(names.get(t));
+    }
+
+    out.println("  // token kinds, numbered in the order " + new File(source).getName() + " defines them");
+    for (int k = 0; k < kindNames.size(); k++) {
+      out.println("  static final int " + kindNames.get(k).toUpperCase() + "_KIND = " + k + ";");
+    }
+    out.println();
+    out.println("  // name of each token kind");
+    out.println("  static final String[] TOKEN_NAMES = {");
+    for (int k = 0; k < kindNames.size(); k++) out.println("    \"" + kindNames.get(k) + "\", // " + k);
+    out.println("  };");
+    out.println();
+    out.println("  static final int NOT_ACCEPTING = -1;");
+    out.println();
+    out.println("  // kind of token accepted in each state, or NOT_ACCEPTING");
+    out.println("  static final int[] ACCEPT_KIND = {");
+    for (int s = 0; s < numStates; s++) {
+      out.println("    " + (accepts[s] == -1 ? "NOT_ACCEPTING" : kindNames.get(kind[accepts[s]]).toUpperCase() + "_KIND") + ", // " + s);
+    }
+    out.println("  };");
+    out.println();
+    out.println("  // the only text that can reach each accepting state, or null if there is more than one");
+    out.println("  static final String[] LEXEMES = {");
+    for (int s = 0; s < numStates; s++) {
+      out.println("    " + (accepts[s] == -1 || lexemes[s] == null ? "null" : quote(lexemes[s])) + ", // " + s);
+    }
+    out.println("  };");
+    out.println();
+    // A skip token that is one char and can go no further, such as a space, is
+    // skipped in runs; a skip state that can only loop on itself, such as a
+    // comment body, is run through without the DFA.
+    int skip = names.indexOf("skip");
+    int[] skipChars = new int[MAX_CHAR+1];
+    for (int c = 0; c <= MAX_CHAR; c++) {
+      int t = transitions[charClass[c]];
+      if (t != -1 && skip != -1 && accepts[t] == skip && leadsTo(t) == -1) skipChars[c] = 1;
+    }
+    int skipLoopState = -1;
+    for (int st = 0; st < numStates && skipLoopState == -1; st++) {
+      if (skip != -1 && accepts[st] == skip && leadsTo(st) == st) skipLoopState = st;
+    }
+    int[] skipLoopChars = new int[MAX_CHAR+1];
+    for (int c = 0; c <= MAX_CHAR; c++) {
+      if (skipLoopState != -1 && transitions[skipLoopState * numClasses + charClass[c]] == skipLoopState) skipLoopChars[c] = 1;
+    }
+
+    out.println("  // 1 for each char that is a whole skip token by itself, 0 for the rest");
+    printChars(out, "SKIP_CHARS", skipChars);
+    out.println();
+    out.println("  // a skipped state whose only transitions lead back to it, or NOT_ACCEPTING, and 1 for each char it loops on");
+    out.println("  static final int SKIP_LOOP_STATE = " + (skipLoopState == -1 ? "NOT_ACCEPTING" : String.valueOf(skipLoopState)) + ";");
+    printChars(out, "SKIP_LOOP_CHARS", skipLoopChars);
+    out.println();
+    // States that can only end in a skip token: no state they lead to accepts
+    // anything else.  A streaming tokenizer need not keep the text of one.
+    boolean[] other = new boolean[numStates];
+    for (int st = 0; st < numStates; st++) other[st] = accepts[st] != -1 && accepts[st] != skip;
+    for (boolean changed = true; changed; ) {
+      changed = false;
+      for (int st = 0; st < numStates; st++) {
+        for (int cls = 0; cls < numClasses && !other[st]; cls++) {
+          int t = transitions[st * numClasses + cls];
+          if (t != -1 && other[t]) { other[st] = true; changed = true; }
+        }
+      }
+    }
+    out.println("  // 1 for each state that can only end in a skip token, 0 for the rest");
+    out.println("  static final int[] SKIP_ONLY = {");
+    for (int st = 0; st < numStates; st++) out.println("    " + (skip != -1 && !other[st] ? 1 : 0) + ", // " + st);
+    out.println("  };");
+    out.println();
+    out.println("  // Words of KEYWORD_OWNER_KIND that are tokens of their own.  Text of that kind is");
+    out.println("  // a KEYWORD_KINDS[h] token if it equals KEYWORDS[h], where h = keywordHash() of it.");
+    out.println("  static final int KEYWORD_OWNER_KIND = " + (keywordOwner == -1 ? "NOT_ACCEPTING" : kindNames.get(kind[keywordOwner]).toUpperCase() + "_KIND") + ";");
+    out.println();
+    out.println("  static final String[] KEYWORDS = {");
+    for (int h = 0; h < keywordTable.length; h++) {
+      out.println("    " + (keywordTable[h] == null ? "null" : quote(keywordTable[h])) + ", // " + h);
+    }
+    out.println("  };");
+    out.println();
+    out.println("  static final int[] KEYWORD_KINDS = {");
+    for (int h = 0; h < keywordTable.length; h++) {
+      out.println("    " + (keywordTable[h] == null ? "NOT_ACCEPTING" : kindNames.get(kind[keywords.get(keywordTable[h])]).toUpperCase() + "_KIND") + ", // " + h);
+    }
+    out.println("  };");
+    out.println();
+    out.println("  // a perfect hash of the keywords, from a word's first, middle and last chars and its length");
+    out.println("  static int keywordHash(int first, int middle, int last, int length) {");
+    out.println("    return (first * " + hashA + " + middle * " + hashB + " + last * " + hashC + " + length) & " + hashMask + ";");
+    out.println("  }");
+    out.println();
+    out.println("} // end " + TABLES_CLASS);
+  } // end write
+
+  // the one state every transition out of state leads to, -1 if there are
+  // none, or -2 if they lead to more than one
+  private int leadsTo(int state) {
+    int target = -1;
+    for (int cls = 1; cls < numClasses; cls++) {
+      int t = transitions[state * numClasses + cls];
+      if (t == -1 || t == target) continue;
+      if (target != -1) return -2;
+      target = t;
+    }
+    return target;
+  }
+
+  // writes a table with an entry for each char 0..MAX_CHAR
+  private static void printChars(PrintStream out, String name, int[] values) {
+    out.print("  static final int[] " + name + " = {");
+    for (int c = 0; c <= MAX_CHAR; c++) {
+      if (c % 32 == 0) out.print("\n    ");
+      out.print(values[c] + ",");
+    }
+    out.println("\n  };");
+  }
+
+  // javac turns unicode escapes into chars before it reads string literals,
+  // so a line break written as one would end the literal; control chars get
+  // the escapes a string literal understands
+  private static final String ESCAPES = "\n\r\t\b\f", ESCAPED = "nrtbf";
+
+  private static String quote(String text) {
+    StringBuilder sb = new StringBuilder("\"");
+    for (char c : text.toCharArray()) {
+      if (c == '"' || c == '\\') sb.append('\\').append(c);
+      else if (ESCAPES.indexOf(c) >= 0) sb.append('\\').append(ESCAPED.charAt(ESCAPES.indexOf(c)));
+      else if (c < 32) sb.append(String.format("\\%03o", (int)c));
+      else if (c > 126) sb.append(String.format("\\u%04x", (int)c));
+      else sb.append(c);
+    }
+    return sb.append('"').toString();
+  } // end quote
+
+} // end CMMTokenizerGenerator
@@ -0,0 +1,336 @@
+/**
+ * Scanner tables for CMMTokenizer, generated from cmm.t by CMMTokenizerGenerator.
+ * Do not edit by hand; run make to regenerate.
+ */
+final class CMMTokenizerTables {
+
+  private CMMTokenizerTables() { }
+
+  static final int NUM_STATES = 35;
+  static final int NUM_CLASSES = 28;
+
+  // chars above this value never appear in a transition and fall into OTHER_CLASS
+  static final int MAX_CLASSED_CHAR = 255;
+  static final int OTHER_CLASS = 0;
+
+  // class of each char 0..MAX_CLASSED_CHAR
+  static final int[] CHAR_CLASS = {
+    0,0,0,0,0,0,0,0,0,1,2,3,3,2,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,
+    1,4,5,3,3,6,7,3,8,9,10,11,12,13,14,15,16,16,16,16,16,16,16,16,16,16,3,17,18,19,20,3,
+    3,21,21,21,21,22,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,3,23,3,24,21,
+    3,21,21,21,21,22,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,21,25,26,27,3,3,
+    3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,
+    3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,
+    3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,
+    3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,
+  };
+
+  // TRANSITIONS[state * NUM_CLASSES + class] is the next state, or -1 if there is none
+  static final int[] TRANSITIONS = {
+    -1,1,1,-1,2,3,4,5,6,7,8,9,10,11,12,13,14,15,16,17,18,19,19,-1,20,21,22,23, // 0
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 1
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,24,-1,-1,-1,-1,-1,-1,-1,-1, // 2
+    -1,3,3,3,3,25,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,26,3,3,3,3, // 3
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 4
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 5
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 6
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 7
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 8
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 9
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 10
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,12,-1,14,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 11
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,27,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 12
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,28,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 13
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,12,-1,14,-1,-1,-1,-1,-1,29,-1,-1,-1,-1,-1, // 14
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 15
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,30,24,-1,-1,-1,-1,-1,-1,-1, // 16
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,31,-1,-1,-1,-1,-1,-1,-1,-1, // 17
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,32,-1,-1,-1,-1,-1,-1,-1,-1, // 18
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,19,-1,-1,-1,-1,19,19,-1,-1,-1,-1,-1, // 19
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 20
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 21
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 22
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 23
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 24
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 25
+    -1,3,3,3,3,33,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,26,3,3,3,3, // 26
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,27,-1,-1,-1,-1,-1,29,-1,-1,-1,-1,-1, // 27
+    -1,28,-1,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28,28, // 28
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,34,-1,34,-1,-1,34,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 29
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 30
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 31
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 32
+    -1,3,3,3,3,25,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,3,26,3,3,3,3, // 33
+    -1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,34,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1,-1, // 34
+  };
+
+  // token kinds, numbered in the order cmm.t defines them
+  static final int SKIP_KIND = 0;
+  static final int EOL_KIND = 1;
+  static final int BB_KIND = 2;
+  static final int BE_KIND = 3;
+  static final int LPAREN_KIND = 4;
+  static final int RPAREN_KIND = 5;
+  static final int LISTSEP_KIND = 6;
+  static final int AND_KIND = 7;
+  static final int OR_KIND = 8;
+  static final int PLUS_KIND = 9;
+  static final int MINUS_KIND = 10;
+  static final int MULTIPLY_KIND = 11;
+  static final int DIVIDE_KIND = 12;
+  static final int MOD_KIND = 13;
+  static final int EXP_KIND = 14;
+  static final int NOT_KIND = 15;
+  static final int EQ_KIND = 16;
+  static final int LT_KIND = 17;
+  static final int GT_KIND = 18;
+  static final int LE_KIND = 19;
+  static final int GE_KIND = 20;
+  static final int NE_KIND = 21;
+  static final int GETS_KIND = 22;
+  static final int DO_KIND = 23;
+  static final int WHILE_KIND = 24;
+  static final int IF_KIND = 25;
+  static final int ELSIF_KIND = 26;
+  static final int ELSE_KIND = 27;
+  static final int RETURN_KIND = 28;
+  static final int NUMBER_T_KIND = 29;
+  static final int STRING_T_KIND = 30;
+  static final int BOOLEAN_T_KIND = 31;
+  static final int STRING_KIND = 32;
+  static final int NUMBER_KIND = 33;
+  static final int BOOLEAN_KIND = 34;
+  static final int ID_KIND = 35;
+
+  // name of each token kind
+  static final String[] TOKEN_NAMES = {
+    "skip", // 0
+    "eol", // 1
+    "bb", // 2
+    "be", // 3
+    "lparen", // 4
+    "rparen", // 5
+    "listsep", // 6
+    "and", // 7
+    "or", // 8
+    "plus", // 9
+    "minus", // 10
+    "multiply", // 11
+    "divide", // 12
+    "mod", // 13
+    "exp", // 14
+    "not", // 15
+    "eq", // 16
+    "lt", // 17
+    "gt", // 18
+    "le", // 19
+    "ge", // 20
+    "ne", // 21
+    "gets", // 22
+    "do", // 23
+    "while", // 24
+    "if", // 25
+    "elsif", // 26
+    "else", // 27
+    "return", // 28
+    "number_t", // 29
+    "string_t", // 30
+    "boolean_t", // 31
+    "string", // 32
+    "number", // 33
+    "boolean", // 34
+    "id", // 35
+  };
+
+  static final int NOT_ACCEPTING = -1;
+
+  // kind of token accepted in each state, or NOT_ACCEPTING
+  static final int[] ACCEPT_KIND = {
+    NOT_ACCEPTING, // 0
+    SKIP_KIND, // 1
+    NOT_KIND, // 2
+    NOT_ACCEPTING, // 3
+    MOD_KIND, // 4
+    AND_KIND, // 5
+    LPAREN_KIND, // 6
+    RPAREN_KIND, // 7
+    MULTIPLY_KIND, // 8
+    PLUS_KIND, // 9
+    LISTSEP_KIND, // 10
+    MINUS_KIND, // 11
+    NOT_ACCEPTING, // 12
+    DIVIDE_KIND, // 13
+    NUMBER_KIND, // 14
+    EOL_KIND, // 15
+    LT_KIND, // 16
+    GETS_KIND, // 17
+    GT_KIND, // 18
+    ID_KIND, // 19
+    EXP_KIND, // 20
+    BB_KIND, // 21
+    OR_KIND, // 22
+    BE_KIND, // 23
+    NE_KIND, // 24
+    STRING_KIND, // 25
+    NOT_ACCEPTING, // 26
+    NUMBER_KIND, // 27
+    SKIP_KIND, // 28
+    NUMBER_KIND, // 29
+    LE_KIND, // 30
+    EQ_KIND, // 31
+    GE_KIND, // 32
+    STRING_KIND, // 33
+    NUMBER_KIND, // 34
+  };
+
+  // the only text that can reach each accepting state, or null if there is more than one
+  static final String[] LEXEMES = {
+    null, // 0
+    null, // 1
+    "!", // 2
+    null, // 3
+    "%", // 4
+    "&", // 5
+    "(", // 6
+    ")", // 7
+    "*", // 8
+    "+", // 9
+    ",", // 10
+    "-", // 11
+    null, // 12
+    "/", // 13
+    null, // 14
+    ";", // 15
+    "<", // 16
+    "=", // 17
+    ">", // 18
+    null, // 19
+    "^", // 20
+    "{", // 21
+    "|", // 22
+    "}", // 23
+    null, // 24
+    null, // 25
+    null, // 26
+    null, // 27
+    null, // 28
+    null, // 29
+    "<=", // 30
+    "==", // 31
+    ">=", // 32
+    null, // 33
+    null, // 34
+  };
+
+  // 1 for each char that is a whole skip token by itself, 0 for the rest
+  static final int[] SKIP_CHARS = {
+    0,0,0,0,0,0,0,0,0,1,1,0,0,1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+    1,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+    0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+    0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+    0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+    0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+    0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+    0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,0,
+  };
+
+  // a skipped state whose only transitions lead back to it, or NOT_ACCEPTING, and 1 for each char it loops on
+  static final int SKIP_LOOP_STATE = 28;
+  static final int[] SKIP_LOOP_CHARS = {
+    0,0,0,0,0,0,0,0,0,1,0,1,1,0,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,
+    1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,
+    1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,
+    1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,
+    1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,
+    1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,
+    1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,
+    1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,1,
+  };
+
+  // 1 for each state that can only end in a skip token, 0 for the rest
+  static final int[] SKIP_ONLY = {
+    0, // 0
+    1, // 1
+    0, // 2
+    0, // 3
+    0, // 4
+    0, // 5
+    0, // 6
+    0, // 7
+    0, // 8
+    0, // 9
+    0, // 10
+    0, // 11
+    0, // 12
+    0, // 13
+    0, // 14
+    0, // 15
+    0, // 16
+    0, // 17
+    0, // 18
+    0, // 19
+    0, // 20
+    0, // 21
+    0, // 22
+    0, // 23
+    0, // 24
+    0, // 25
+    0, // 26
+    0, // 27
+    1, // 28
+    0, // 29
+    0, // 30
+    0, // 31
+    0, // 32
+    0, // 33
+    0, // 34
+  };
+
+  // Words of KEYWORD_OWNER_KIND that are tokens of their own.  Text of that kind is
+  // a KEYWORD_KINDS[h] token if it equals KEYWORDS[h], where h = keywordHash() of it.
+  static final int KEYWORD_OWNER_KIND = ID_KIND;
+
+  static final String[] KEYWORDS = {
+    null, // 0
+    null, // 1
+    null, // 2
+    null, // 3
+    "return", // 4
+    "boolean", // 5
+    "elsif", // 6
+    "if", // 7
+    "number", // 8
+    null, // 9
+    "true", // 10
+    "else", // 11
+    "do", // 12
+    "false", // 13
+    "while", // 14
+    "string", // 15
+  };
+
+  static final int[] KEYWORD_KINDS = {
+    NOT_ACCEPTING, // 0
+    NOT_ACCEPTING, // 1
+    NOT_ACCEPTING, // 2
+    NOT_ACCEPTING, // 3
+    RETURN_KIND, // 4
+    BOOLEAN_T_KIND, // 5
+    ELSIF_KIND, // 6
+    IF_KIND, // 7
+    NUMBER_T_KIND, // 8
+    NOT_ACCEPTING, // 9
+    BOOLEAN_KIND, // 10
+    ELSE_KIND, // 11
+    DO_KIND, // 12
+    BOOLEAN_KIND, // 13
+    WHILE_KIND, // 14
+    STRING_T_KIND, // 15
+  };
+
+  // a perfect hash of the keywords, from a word's first, middle and last chars and its length
+  static int keywordHash(int first, int middle, int last, int length) {
+    return (first * 1 + middle * 0 + last * 10 + length) & 15;
+  }
+
+} // end CMMTokenizerTables